@@ -0,0 +1,36 @@
+package org.example.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line and always
+ * adds the GC profiler, so every result comes with gc.alloc.rate.norm
+ * (bytes allocated per operation) next to the timing.
+ *
+ * Usage: java -jar hexoust-bench/target/benchmarks.jar [JMH options] [benchmark regex]
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            // Delegate listing and help output to the stock JMH launcher
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
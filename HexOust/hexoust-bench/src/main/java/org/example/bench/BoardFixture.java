@@ -0,0 +1,48 @@
+package org.example.bench;
+
+import org.example.controller.GameController;
+import org.example.model.BoardRepresentation;
+
+import java.util.Random;
+
+/**
+ * Board positions the benchmarks run on, each reached by seeded random play
+ * so that runs are repeatable. Random games rarely hold more than about
+ * 50 stones at once because of captures, so DENSE is near the top of that range.
+ */
+public enum BoardFixture {
+    EMPTY(0),
+    MID_GAME(30),
+    DENSE(60);
+
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final int stoneTarget;
+
+    BoardFixture(int stoneTarget) {
+        this.stoneTarget = stoneTarget;
+    }
+
+    public int getStoneTarget() {
+        return stoneTarget;
+    }
+
+    /**
+     * Play random games from the seed until one reaches the stone target
+     * without the game ending.
+     * @param representation Board representation to build
+     * @param seed First seed to try; later attempts use seed + 1, seed + 2, ...
+     * @return A controller holding the fixture position
+     */
+    public GameController build(BoardRepresentation representation, long seed) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            GameController controller = new GameController(representation);
+            RandomGames.playUntil(controller, new Random(seed + attempt), stoneTarget);
+            if (!controller.getGameState().isGameOver()
+                    && RandomGames.stoneCount(controller.getBoard()) >= stoneTarget) {
+                return controller;
+            }
+        }
+        throw new IllegalStateException("No random game from seed " + seed + " reached " + this);
+    }
+}
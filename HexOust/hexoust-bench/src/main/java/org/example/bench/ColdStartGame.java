@@ -0,0 +1,30 @@
+package org.example.bench;
+
+import org.example.controller.GameController;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Plays one seeded random game on a freshly started JVM and reports how long
+ * it took since JVM start. Only hexoust-core is on the class path, so no
+ * JavaFX toolkit is loaded.
+ *
+ * Usage: java -cp hexoust-core.jar:hexoust-bench.jar org.example.bench.ColdStartGame [seed]
+ */
+public class ColdStartGame {
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42L;
+
+        long gameStart = System.nanoTime();
+        int moves = RandomGames.playRandomGame(new GameController(), new Random(seed));
+        long gameNanos = System.nanoTime() - gameStart;
+
+        long sinceJvmStart = System.currentTimeMillis()
+                - ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        System.out.printf("moves=%d game=%.2f ms since JVM start=%d ms%n",
+                moves, gameNanos / 1_000_000.0, sinceJvmStart);
+    }
+}
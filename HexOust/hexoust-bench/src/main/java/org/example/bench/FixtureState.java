@@ -0,0 +1,109 @@
+package org.example.bench;
+
+import org.example.controller.GameController;
+import org.example.controller.LegalMoveList;
+import org.example.controller.MoveAnalysis;
+import org.example.controller.MoveValidator;
+import org.example.model.Board;
+import org.example.model.BoardRepresentation;
+import org.example.model.GroupManager;
+import org.example.model.HexTopology;
+import org.example.model.Player;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A fixture position plus the cells the benchmarks probe on it.
+ * Benchmarks cycle through the probe arrays so that one measurement covers
+ * a realistic mix of cells rather than a single branch.
+ */
+@State(Scope.Thread)
+public class FixtureState {
+
+    @Param({"EMPTY", "MID_GAME", "DENSE"})
+    public BoardFixture fixture;
+
+    @Param({"CELLS", "BITBOARD"})
+    public BoardRepresentation representation;
+
+    @Param("20250101")
+    public long seed;
+
+    GameController controller;
+    Board board;
+    GroupManager groupManager;
+    MoveValidator validator;
+    Player player;
+    int cellCount;
+    MoveAnalysis analysis;
+    LegalMoveList legalMoves;
+
+    // Empty cells; fall back to every cell on a full board
+    int[] emptyCells;
+    // Cells where the side to move has a legal CP move; empty cells if there are none
+    int[] capturingCells;
+    // Occupied cells; every cell on an empty board
+    int[] stoneCells;
+    // Scratch buffer for allocation-free capture collection
+    int[] captureBuffer;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        controller = fixture.build(representation, seed);
+        board = controller.getBoard();
+        groupManager = board.getGroupManager();
+        validator = new MoveValidator(board);
+        player = controller.getCurrentPlayer();
+
+        HexTopology topology = board.getTopology();
+        cellCount = topology.getCellCount();
+        analysis = validator.newAnalysis();
+        legalMoves = new LegalMoveList(cellCount);
+        captureBuffer = new int[cellCount];
+
+        int[] empty = new int[cellCount];
+        int[] capturing = new int[cellCount];
+        int[] stones = new int[cellCount];
+        int emptyCount = 0;
+        int capturingCount = 0;
+        int stoneCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (board.getColorAt(index) == null) {
+                empty[emptyCount++] = index;
+                if (validator.validateCapturingPlacement(player, index)) {
+                    capturing[capturingCount++] = index;
+                }
+            } else {
+                stones[stoneCount++] = index;
+            }
+        }
+
+        int[] all = new int[cellCount];
+        for (int index = 0; index < cellCount; index++) {
+            all[index] = index;
+        }
+        emptyCells = emptyCount > 0 ? trim(empty, emptyCount) : all;
+        capturingCells = capturingCount > 0 ? trim(capturing, capturingCount) : emptyCells;
+        stoneCells = stoneCount > 0 ? trim(stones, stoneCount) : all;
+    }
+
+    /**
+     * Next cell from the probe array, cycling
+     */
+    int next(int[] cells) {
+        if (cursor >= cells.length) {
+            cursor = 0;
+        }
+        return cells[cursor++];
+    }
+
+    private static int[] trim(int[] cells, int count) {
+        int[] result = new int[count];
+        System.arraycopy(cells, 0, result, 0, count);
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.bench;
+
+import org.example.controller.GameController;
+import org.example.model.BoardRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole random games through GameController; the score is games per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FullGameBenchmark {
+
+    @Param({"CELLS", "BITBOARD"})
+    public BoardRepresentation representation;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        // Seeded so that every fork plays the same sequence of games
+        random = new Random(20250101L);
+    }
+
+    @Benchmark
+    public int playRandomGame() {
+        return RandomGames.playRandomGame(new GameController(representation), random);
+    }
+}
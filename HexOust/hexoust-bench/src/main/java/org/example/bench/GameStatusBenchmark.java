@@ -0,0 +1,51 @@
+package org.example.bench;
+
+import org.example.controller.LegalMoveList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-of-game detection and legal move listing in GameController on the fixture positions.
+ * Fixtures are never finished games, so checkGameStatus leaves them unchanged.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStatusBenchmark {
+
+    @Benchmark
+    public boolean hasLegalMoves(FixtureState state) {
+        return state.controller.hasLegalMoves(state.player);
+    }
+
+    @Benchmark
+    public int canPlaceStoneAllCells(FixtureState state) {
+        int count = 0;
+        for (int index = 0; index < state.cellCount; index++) {
+            if (state.controller.canPlaceStone(index)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public LegalMoveList generateLegalMoves(FixtureState state) {
+        return state.controller.generateLegalMoves(state.player, state.legalMoves);
+    }
+
+    @Benchmark
+    public boolean checkGameStatus(FixtureState state) {
+        state.controller.checkGameStatus();
+        return state.controller.getGameState().isGameOver();
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group lookups in GroupManager on the fixture positions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupBenchmark {
+
+    @Benchmark
+    public List<Integer> getGroup(FixtureState state) {
+        return state.groupManager.getGroup(state.next(state.stoneCells));
+    }
+
+    @Benchmark
+    public int collectGroup(FixtureState state) {
+        return state.groupManager.collectGroup(state.next(state.stoneCells), state.captureBuffer);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.bench;
+
+import org.example.ai.MctsEngine;
+import org.example.ai.MctsResult;
+import org.example.controller.GameController;
+import org.example.model.BoardRepresentation;
+
+/**
+ * Measures MCTS playouts/sec for 1, 2, 4, ... threads on a fixed mid-game position
+ * and prints the speed-up over one thread.
+ *
+ * Usage: java -cp hexoust-core.jar:hexoust-bench.jar org.example.bench.MctsScaling [maxThreads] [millis]
+ */
+public class MctsScaling {
+
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 2000L;
+
+        GameController position = BoardFixture.MID_GAME.build(BoardRepresentation.BITBOARD, 20250101L);
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            try (MctsEngine engine = new MctsEngine(threads, millis, 42L)) {
+                // Warm up, then measure on a fresh tree
+                engine.search(position);
+                try (MctsEngine measured = new MctsEngine(threads, millis, 42L)) {
+                    MctsResult result = measured.search(position);
+                    double rate = result.getPlayoutsPerSecond();
+                    if (threads == 1) {
+                        single = rate;
+                    }
+                    System.out.printf("threads=%2d playouts/sec=%10.0f speed-up=%5.2f%n",
+                            threads, rate, rate / single);
+                }
+            }
+        }
+    }
+}
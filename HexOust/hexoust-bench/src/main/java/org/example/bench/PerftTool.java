@@ -0,0 +1,58 @@
+package org.example.bench;
+
+import org.example.ai.Perft;
+import org.example.ai.PerftResult;
+import org.example.controller.GameController;
+import org.example.model.BoardRepresentation;
+
+/**
+ * Counts the positions reachable in N placements from the empty board, or from the
+ * position after a list of moves, and prints the count with nodes/sec.
+ * With --divide the count is also printed per root move, to find the first move where
+ * two rule implementations disagree.
+ *
+ * Usage: java -cp hexoust-core.jar:hexoust-bench.jar org.example.bench.PerftTool
+ *        depth [threads] [--divide] [--cells] [--moves=i,j,...]
+ */
+public class PerftTool {
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: PerftTool depth [threads] [--divide] [--cells] [--moves=i,j,...]");
+            System.exit(2);
+        }
+        int depth = Integer.parseInt(args[0]);
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean divide = false;
+        BoardRepresentation representation = BoardRepresentation.BITBOARD;
+        String moves = "";
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--divide")) {
+                divide = true;
+            } else if (args[i].equals("--cells")) {
+                representation = BoardRepresentation.CELLS;
+            } else if (args[i].startsWith("--moves=")) {
+                moves = args[i].substring("--moves=".length());
+            } else {
+                threads = Integer.parseInt(args[i]);
+            }
+        }
+
+        GameController position = new GameController(representation);
+        for (String move : moves.split(",")) {
+            if (!move.isBlank() && !position.makeMove(Integer.parseInt(move.trim()))) {
+                throw new IllegalArgumentException("Illegal move in --moves: " + move);
+            }
+        }
+
+        PerftResult result = Perft.divide(position, depth, threads);
+        if (divide) {
+            int[] rootMoves = result.getRootMoves();
+            long[] rootCounts = result.getRootCounts();
+            for (int i = 0; i < rootMoves.length; i++) {
+                System.out.printf("%3d: %d%n", rootMoves[i], rootCounts[i]);
+            }
+        }
+        System.out.printf("%s representation=%s threads=%d%n", result, representation, threads);
+    }
+}
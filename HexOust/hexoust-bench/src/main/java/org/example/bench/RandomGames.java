@@ -0,0 +1,59 @@
+package org.example.bench;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.PlayerColor;
+
+import java.util.Random;
+
+/**
+ * Seeded random play used to build benchmark fixtures and to measure whole games.
+ */
+final class RandomGames {
+
+    private RandomGames() {
+    }
+
+    /**
+     * Plays uniformly random legal moves until the game ends.
+     * @param controller Controller holding a fresh game
+     * @param random Source of move choices
+     * @return Number of stones placed
+     */
+    static int playRandomGame(GameController controller, Random random) {
+        return playUntil(controller, random, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Plays uniformly random legal moves until the board holds at least
+     * stoneTarget stones or the game ends.
+     * @param controller Controller to play on
+     * @param random Source of move choices
+     * @param stoneTarget Number of stones on the board at which to stop
+     * @return Number of stones placed
+     */
+    static int playUntil(GameController controller, Random random, int stoneTarget) {
+        Board board = controller.getBoard();
+        int cellCount = board.getTopology().getCellCount();
+        int[] legal = new int[cellCount];
+        int moves = 0;
+
+        while (!controller.getGameState().isGameOver() && stoneCount(board) < stoneTarget) {
+            int count = 0;
+            for (int index = 0; index < cellCount; index++) {
+                if (controller.canPlaceStone(index)) {
+                    legal[count++] = index;
+                }
+            }
+            if (count == 0 || !controller.makeMove(legal[random.nextInt(count)])) {
+                break;
+            }
+            moves++;
+        }
+        return moves;
+    }
+
+    static int stoneCount(Board board) {
+        return board.countStones(PlayerColor.RED) + board.countStones(PlayerColor.BLUE);
+    }
+}
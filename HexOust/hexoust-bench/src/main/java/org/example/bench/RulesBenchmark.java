@@ -0,0 +1,54 @@
+package org.example.bench;
+
+import org.example.controller.MoveAnalysis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placement rules in MoveValidator on the fixture positions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+
+    @Benchmark
+    public boolean validateNonCapturingPlacement(FixtureState state) {
+        return state.validator.validateNonCapturingPlacement(state.player, state.next(state.emptyCells));
+    }
+
+    @Benchmark
+    public boolean validateCapturingPlacement(FixtureState state) {
+        return state.validator.validateCapturingPlacement(state.player, state.next(state.emptyCells));
+    }
+
+    @Benchmark
+    public MoveAnalysis analyzePlacement(FixtureState state) {
+        return state.validator.analyze(state.player, state.next(state.emptyCells), state.analysis);
+    }
+
+    @Benchmark
+    public MoveAnalysis analyzeCapturingPlacement(FixtureState state) {
+        return state.validator.analyze(state.player, state.next(state.capturingCells), state.analysis);
+    }
+
+    @Benchmark
+    public List<Integer> executeCapture(FixtureState state) {
+        return state.validator.executeCapture(state.player, state.next(state.capturingCells));
+    }
+
+    @Benchmark
+    public int collectCaptures(FixtureState state) {
+        return state.validator.collectCaptures(state.player, state.next(state.capturingCells), state.captureBuffer);
+    }
+}
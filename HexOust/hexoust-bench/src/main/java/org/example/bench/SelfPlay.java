@@ -0,0 +1,21 @@
+package org.example.bench;
+
+import org.example.ai.RandomMovePolicy;
+import org.example.ai.SelfPlayRunner;
+import org.example.ai.SelfPlayStats;
+
+/**
+ * Runs random self-play on all cores and prints the statistics.
+ *
+ * Usage: java -cp hexoust-core.jar:hexoust-bench.jar org.example.bench.SelfPlay [games] [seed]
+ */
+public class SelfPlay {
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+
+        SelfPlayStats stats = new SelfPlayRunner(RandomMovePolicy::new).run(games, seed);
+        System.out.println(stats);
+    }
+}
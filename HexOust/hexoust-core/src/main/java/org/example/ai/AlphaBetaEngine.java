@@ -0,0 +1,366 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.controller.LegalMoveList;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+import org.example.model.Symmetry;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Negamax alpha-beta search with iterative deepening under a wall-clock budget.
+ * The search runs on a private copy of the game using apply/undo, so the caller's
+ * controller is never touched. After a capture the same player moves again, so
+ * that ply keeps the score and window instead of negating them. Every placement,
+ * continuation or not, costs one ply of depth.
+ * An optional TranspositionTable, which may be shared with other engines, caches
+ * scores and best moves by position hash. On a symmetric board the table is keyed by
+ * the canonical form of the position and moves are stored in canonical coordinates,
+ * so all 12 symmetric variants of a position share one entry.
+ * Positions with at most DEFAULT_ENDGAME_THRESHOLD empty cells are first solved exactly
+ * by an EndgameSolver with half the budget, and the normal search only runs if that fails.
+ * The default solver is created on first use; setEndgameSolver replaces or disables it.
+ * The engine reuses its buffers between searches and is not thread-safe, except for
+ * cancel(), which may be called from any thread while a search runs. Each search has
+ * its own cancel token, so a cancelled engine searches normally the next time.
+ */
+public class AlphaBetaEngine implements MovePolicy {
+    public static final int WIN_SCORE = 1_000_000;
+    private static final int INFINITY = WIN_SCORE + 1;
+    private static final int MAX_PLY = 128;
+    // Score of a position proven by the endgame solver, before adding the stone margin
+    public static final int SOLVED_SCORE = WIN_SCORE - 2 * MAX_PLY;
+    // Leaves read the clock every 64 nodes; interior nodes read it before generating moves
+    private static final int CLOCK_MASK = 63;
+    private static final int STONE_WEIGHT = 16;
+    // Stop this much before the budget runs out to absorb unwinding and scheduling delays
+    private static final long MAX_SAFETY_MARGIN_NANOS = 2_000_000L;
+    // Empty cells at or below which positions are solved exactly unless configured otherwise
+    public static final int DEFAULT_ENDGAME_THRESHOLD = 12;
+    private static final long DEFAULT_SOLVER_NODE_LIMIT = 5_000_000L;
+
+    /**
+     * Receives the result of every completed iteration of a search
+     */
+    public interface ProgressListener {
+        void onIterationComplete(SearchResult result);
+    }
+
+    private final long timeLimitNanos;
+    private final TranspositionTable table;
+    private int maxDepth = MAX_PLY - 1;
+    private EndgameSolver endgameSolver;
+    private int endgameThreshold = DEFAULT_ENDGAME_THRESHOLD;
+    private ProgressListener progressListener;
+    // Cancel token of the search in progress
+    private volatile AtomicBoolean cancelled = new AtomicBoolean();
+
+    private GameController game;
+    private LegalMoveList legalMoves;
+    private Symmetry symmetry;
+
+    // Ordered moves and their ordering keys per ply
+    private int[][] moves = new int[0][];
+    private int[][] orderKeys = new int[0][];
+    // Triangular principal variation table
+    private final int[][] pv = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+    private int[] previousPv = new int[0];
+
+    private long nodes;
+    private long deadline;
+    private boolean aborted;
+
+    /**
+     * @param timeLimitMillis Wall-clock budget per search, at least 1 ms
+     */
+    public AlphaBetaEngine(long timeLimitMillis) {
+        this(timeLimitMillis, null);
+    }
+
+    /**
+     * @param timeLimitMillis Wall-clock budget per search, at least 1 ms
+     * @param table Transposition table to read and fill, or null to search without one
+     */
+    public AlphaBetaEngine(long timeLimitMillis, TranspositionTable table) {
+        this.timeLimitNanos = Math.max(1, timeLimitMillis) * 1_000_000L;
+        this.table = table;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Limit the iterative deepening depth, mainly for tests and analysis
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_PLY - 1));
+    }
+
+    /**
+     * Replace the default endgame solver and threshold
+     * @param solver Solver to use, or null to always search heuristically
+     * @param emptyCellThreshold Solve when at most this many cells are empty
+     */
+    public void setEndgameSolver(EndgameSolver solver, int emptyCellThreshold) {
+        this.endgameSolver = solver;
+        this.endgameThreshold = solver != null ? emptyCellThreshold : 0;
+    }
+
+    /**
+     * Report each completed iteration, on the searching thread
+     * @param listener Listener to call, or null for none
+     */
+    public void setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+    }
+
+    /**
+     * Stop the running search as soon as possible; it returns the best move of its last
+     * completed iteration. Later searches are not affected. Safe to call from any thread.
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    @Override
+    public int chooseMove(GameController controller, SplittableRandom random) {
+        return search(controller).getBestMove();
+    }
+
+    /**
+     * Search the current position of a game within the time budget.
+     * A legal move is chosen before the first iteration starts, so the result
+     * holds a legal move whenever the side to move has one.
+     * @param source Game to search; not modified
+     * @return The best move found with search statistics
+     */
+    public SearchResult search(GameController source) {
+        return search(source, new AtomicBoolean());
+    }
+
+    /**
+     * Search with a cancel token owned by the caller, so the search can be cancelled
+     * even before it starts, for example while it waits in a queue
+     * @param source Game to search; not modified
+     * @param cancel Set to true from any thread to stop the search
+     * @return The best move found with search statistics
+     */
+    public SearchResult search(GameController source, AtomicBoolean cancel) {
+        cancelled = cancel;
+        long start = System.nanoTime();
+        deadline = start + timeLimitNanos - Math.min(MAX_SAFETY_MARGIN_NANOS, timeLimitNanos / 10);
+        prepare(source);
+
+        int rootCount = generateMoves(0, -1);
+        if (rootCount == 0) {
+            return new SearchResult(-1, 0, 0, nodes, System.nanoTime() - start, new int[0]);
+        }
+
+        if (rootCount > 1 && !cancel.get() && EndgameSolver.countEmptyCells(source) <= endgameThreshold) {
+            if (endgameSolver == null) {
+                // Created here so engines that never reach an endgame skip its table
+                endgameSolver = new EndgameSolver(DEFAULT_SOLVER_NODE_LIMIT);
+            }
+            SolverResult solved = endgameSolver.solve(source, Math.max(1, timeLimitNanos / 2_000_000L), cancel);
+            if (solved.isSolved() && solved.getBestMove() >= 0) {
+                // Proven results rank below forced wins found by the search itself
+                int score = SOLVED_SCORE + solved.getMargin();
+                return new SearchResult(solved.getBestMove(),
+                        solved.getOutcome() == SolverResult.Outcome.WIN ? score : -score,
+                        EndgameSolver.countEmptyCells(source), solved.getNodes(),
+                        System.nanoTime() - start, new int[] {solved.getBestMove()});
+            }
+        }
+
+        int bestMove = moves[0][0];
+        int bestScore = 0;
+        int depthReached = 0;
+        int[] bestPv = {bestMove};
+
+        if (rootCount > 1) {
+            for (int depth = 1; depth <= maxDepth && System.nanoTime() < deadline && !cancel.get(); depth++) {
+                int score = negamax(depth, -INFINITY, INFINITY, 0);
+                if (aborted) {
+                    // Keep the last completed iteration
+                    break;
+                }
+                bestScore = score;
+                depthReached = depth;
+                bestPv = Arrays.copyOf(pv[0], pvLength[0]);
+                bestMove = bestPv[0];
+                previousPv = bestPv;
+                if (progressListener != null) {
+                    progressListener.onIterationComplete(new SearchResult(bestMove, bestScore, depthReached,
+                            nodes, System.nanoTime() - start, bestPv));
+                }
+
+                if (Math.abs(score) >= WIN_SCORE - MAX_PLY) {
+                    // Forced result; deeper iterations cannot change it
+                    break;
+                }
+            }
+        }
+
+        return new SearchResult(bestMove, bestScore, depthReached, nodes, System.nanoTime() - start, bestPv);
+    }
+
+    private void prepare(GameController source) {
+        game = source.copy();
+        legalMoves = new LegalMoveList(game.getBoard().getTopology().getCellCount());
+        nodes = 0;
+        aborted = false;
+        previousPv = new int[0];
+        if (table != null) {
+            table.newSearch();
+        }
+
+        int cellCount = game.getBoard().getTopology().getCellCount();
+        symmetry = game.getBoard().getSymmetry();
+        if (moves.length == 0 || moves[0].length != cellCount) {
+            moves = new int[MAX_PLY][cellCount];
+            orderKeys = new int[MAX_PLY][cellCount];
+        }
+    }
+
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if ((++nodes & CLOCK_MASK) == 0 && (System.nanoTime() >= deadline || cancelled.get())) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        // The root is a game in progress; the end-of-game rules only apply after a move
+        Player winner = ply == 0 ? null : game.findWinner();
+        if (winner != null) {
+            // Prefer quicker wins and slower losses
+            return winner == game.getCurrentPlayer() ? WIN_SCORE - ply : -WIN_SCORE + ply;
+        }
+        if (depth == 0 || ply >= MAX_PLY - 1) {
+            return evaluate();
+        }
+
+        if (System.nanoTime() >= deadline || cancelled.get()) {
+            aborted = true;
+            return 0;
+        }
+
+        int alphaOriginal = alpha;
+        long hash = 0;
+        int transform = 0;
+        int hint = ply < previousPv.length ? previousPv[ply] : -1;
+        if (table != null) {
+            if (symmetry != null) {
+                transform = game.getBoard().getCanonicalTransform();
+                hash = game.getPositionHash(transform);
+            } else {
+                hash = game.getPositionHash();
+            }
+            long entry = table.probe(hash);
+            if (entry != 0) {
+                int tableMove = TranspositionTable.move(entry);
+                if (tableMove >= 0) {
+                    hint = symmetry != null ? symmetry.transform(symmetry.inverse(transform), tableMove) : tableMove;
+                }
+                // The root always searches so that it has a principal variation
+                if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                    int score = fromTable(TranspositionTable.score(entry), ply);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                            || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        int count = generateMoves(ply, hint);
+        if (count == 0) {
+            return evaluate();
+        }
+
+        int best = -INFINITY;
+        int bestMove = -1;
+        int[] plyMoves = moves[ply];
+        for (int i = 0; i < count; i++) {
+            int move = plyMoves[i];
+            Player mover = game.getCurrentPlayer();
+            game.apply(move);
+            int score = game.getCurrentPlayer() == mover
+                    // Capture: the same player continues, so the score is already ours
+                    ? negamax(depth - 1, alpha, beta, ply + 1)
+                    : -negamax(depth - 1, -beta, -alpha, ply + 1);
+            game.undo();
+            if (aborted) {
+                return 0;
+            }
+
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                pv[ply][ply] = move;
+                System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, pvLength[ply + 1] - ply - 1);
+                pvLength[ply] = pvLength[ply + 1];
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (table != null) {
+            int bound = best <= alphaOriginal ? TranspositionTable.UPPER_BOUND
+                    : best >= beta ? TranspositionTable.LOWER_BOUND
+                    : TranspositionTable.EXACT;
+            int tableMove = symmetry != null && bestMove >= 0 ? symmetry.transform(transform, bestMove) : bestMove;
+            table.store(hash, tableMove, toTable(best, ply), depth, bound);
+        }
+        return best;
+    }
+
+    /**
+     * Win scores count plies from the root; the table stores them counted from the node
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score + ply;
+        }
+        return score <= -WIN_SCORE + MAX_PLY ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) {
+            return score - ply;
+        }
+        return score <= -WIN_SCORE + MAX_PLY ? score + ply : score;
+    }
+
+    /**
+     * Static score for the side to move: stone difference first, mobility second
+     */
+    private int evaluate() {
+        Player player = game.getCurrentPlayer();
+        Player opponent = game.getGameState().getPlayer(player.getColor().opponent());
+        PlayerColor color = player.getColor();
+        int stones = game.getBoard().countStones(color) - game.getBoard().countStones(color.opponent());
+        int mobility = game.countLegalMoves(player) - game.countLegalMoves(opponent);
+        return STONE_WEIGHT * stones + mobility;
+    }
+
+    /**
+     * Fill moves[ply] with the legal moves of the side to move, best first
+     * @return Number of legal moves
+     */
+    private int generateMoves(int ply, int hint) {
+        return MoveOrdering.generate(game, legalMoves, hint, moves[ply], orderKeys[ply]);
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.controller.LegalMoveList;
+import org.example.model.BoardRepresentation;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+import org.example.model.Symmetry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exact search to the end of the game for positions with few empty cells.
+ * Terminal positions are decided by GameController.findWinner, the same rules as
+ * checkGameStatus, and a capture continuation keeps the score and window like in
+ * AlphaBetaEngine. Scores are WIN_BASE plus the winner's final stone margin, positive
+ * for a win of the side to move, so they do not depend on the distance to the end.
+ * A first null-window pass around zero proves the outcome; a second pass on the
+ * winning side of zero finds the exact margin.
+ * The search runs on a bitboard copy and uses the shared move ordering and a
+ * transposition table keyed by the canonical position. The table only ever holds
+ * scores searched to the end of the game and must not be shared with depth-limited
+ * engines. The solver reuses its buffers and is not thread-safe.
+ */
+public class EndgameSolver {
+    public static final int WIN_BASE = 1000;
+    private static final int INFINITY = 2 * WIN_BASE;
+    // Longer capture chains than this are treated as unproven
+    private static final int MAX_PLY = 256;
+    private static final int CLOCK_MASK = 1023;
+
+    private final long nodeLimit;
+    private final TranspositionTable table;
+
+    private GameController game;
+    private LegalMoveList legalMoves;
+    private Symmetry symmetry;
+    private int[][] moves = new int[0][];
+    private int[][] orderKeys = new int[0][];
+
+    private long nodes;
+    private long deadline;
+    private AtomicBoolean cancelled;
+    private boolean aborted;
+    private int rootMove;
+
+    /**
+     * @param nodeLimit Nodes searched per call before giving up with UNKNOWN
+     */
+    public EndgameSolver(long nodeLimit) {
+        this(nodeLimit, new TranspositionTable(16));
+    }
+
+    /**
+     * @param nodeLimit Nodes searched per call before giving up with UNKNOWN
+     * @param table Transposition table used only by endgame solvers
+     */
+    public EndgameSolver(long nodeLimit, TranspositionTable table) {
+        this.nodeLimit = nodeLimit;
+        this.table = table;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Count the empty cells of a position, the measure for when solving pays off
+     */
+    public static int countEmptyCells(GameController game) {
+        int stones = 0;
+        for (PlayerColor color : PlayerColor.values()) {
+            stones += game.getBoard().countStones(color);
+        }
+        return game.getBoard().getTopology().getCellCount() - stones;
+    }
+
+    /**
+     * Solve a position within the node limit
+     * @param source Game to solve; not modified
+     */
+    public SolverResult solve(GameController source) {
+        return solve(source, 0);
+    }
+
+    /**
+     * Solve a position within the node limit and a wall-clock budget
+     * @param source Game to solve; not modified
+     * @param timeLimitMillis Wall-clock budget, or 0 for none
+     * @return The proven outcome and margin, or UNKNOWN if a limit ran out first
+     */
+    public SolverResult solve(GameController source, long timeLimitMillis) {
+        return solve(source, timeLimitMillis, new AtomicBoolean());
+    }
+
+    /**
+     * Solve a position within the node limit and a wall-clock budget, giving up early
+     * when a cancel token is set
+     * @param source Game to solve; not modified
+     * @param timeLimitMillis Wall-clock budget, or 0 for none
+     * @param cancel Set to true from any thread to stop solving
+     * @return The proven outcome and margin, or UNKNOWN if a limit ran out or the
+     * token was set first
+     */
+    public SolverResult solve(GameController source, long timeLimitMillis, AtomicBoolean cancel) {
+        long start = System.nanoTime();
+        deadline = timeLimitMillis > 0 ? start + timeLimitMillis * 1_000_000L : Long.MAX_VALUE;
+        cancelled = cancel;
+        prepare(source);
+
+        Player winner = game.findWinner();
+        if (winner != null) {
+            int score = terminalScore(winner);
+            return result(score, -1, true, start);
+        }
+
+        // Outcome first: no score lies strictly between -1 and 1
+        int score = negamax(-1, 1, 0);
+        if (aborted) {
+            return new SolverResult(SolverResult.Outcome.UNKNOWN, -1, 0, false, nodes, System.nanoTime() - start);
+        }
+        int move = rootMove;
+
+        // Then the margin, searching only on the proven side of zero
+        int exact = score > 0 ? negamax(0, INFINITY, 0) : negamax(-INFINITY, 0, 0);
+        if (aborted) {
+            return result(score, move, false, start);
+        }
+        return result(exact, rootMove, true, start);
+    }
+
+    private void prepare(GameController source) {
+        game = source.copy(BoardRepresentation.BITBOARD);
+        legalMoves = new LegalMoveList(game.getBoard().getTopology().getCellCount());
+        symmetry = game.getBoard().getSymmetry();
+        nodes = 0;
+        aborted = cancelled.get();
+        rootMove = -1;
+        table.newSearch();
+
+        int cellCount = game.getBoard().getTopology().getCellCount();
+        if (moves.length == 0 || moves[0].length != cellCount) {
+            moves = new int[MAX_PLY][cellCount];
+            orderKeys = new int[MAX_PLY][cellCount];
+        }
+    }
+
+    private SolverResult result(int score, int move, boolean marginExact, long start) {
+        SolverResult.Outcome outcome = score > 0 ? SolverResult.Outcome.WIN : SolverResult.Outcome.LOSS;
+        return new SolverResult(outcome, move, Math.abs(score) - WIN_BASE, marginExact,
+                nodes, System.nanoTime() - start);
+    }
+
+    private int negamax(int alpha, int beta, int ply) {
+        if (++nodes > nodeLimit
+                || ((nodes & CLOCK_MASK) == 0 && (System.nanoTime() >= deadline || cancelled.get()))) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        if (ply > 0) {
+            Player winner = game.findWinner();
+            if (winner != null) {
+                return terminalScore(winner);
+            }
+        }
+        if (ply >= MAX_PLY - 1) {
+            aborted = true;
+            return 0;
+        }
+
+        int alphaOriginal = alpha;
+        int transform = symmetry != null ? game.getBoard().getCanonicalTransform() : 0;
+        long hash = game.getPositionHash(transform);
+        int hint = -1;
+        long entry = table.probe(hash);
+        if (entry != 0) {
+            int tableMove = TranspositionTable.move(entry);
+            if (tableMove >= 0) {
+                hint = symmetry != null ? symmetry.transform(symmetry.inverse(transform), tableMove) : tableMove;
+            }
+            // Every entry is searched to the end; the root still searches to report a move
+            if (ply > 0) {
+                int score = TranspositionTable.score(entry);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        int[] plyMoves = moves[ply];
+        int count = MoveOrdering.generate(game, legalMoves, hint, plyMoves, orderKeys[ply]);
+        int best = -INFINITY;
+        int bestMove = -1;
+        for (int i = 0; i < count; i++) {
+            int move = plyMoves[i];
+            Player mover = game.getCurrentPlayer();
+            game.apply(move);
+            int score = game.getCurrentPlayer() == mover
+                    // Capture: the same player continues, so the score is already ours
+                    ? negamax(alpha, beta, ply + 1)
+                    : -negamax(-beta, -alpha, ply + 1);
+            game.undo();
+            if (aborted) {
+                return 0;
+            }
+
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (ply == 0) {
+            rootMove = bestMove;
+        }
+
+        int bound = best <= alphaOriginal ? TranspositionTable.UPPER_BOUND
+                : best >= beta ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        int tableMove = symmetry != null && bestMove >= 0 ? symmetry.transform(transform, bestMove) : bestMove;
+        // Store the number of empty cells as depth so bigger subtrees survive replacement
+        table.store(hash, tableMove, best, countEmptyCells(game), bound);
+        return best;
+    }
+
+    /**
+     * Score a finished game for the side to move
+     */
+    private int terminalScore(Player winner) {
+        Player loser = game.getGameState().getPlayer(winner.getColor().opponent());
+        int margin = game.getBoard().countStones(winner.getColor()) - game.getBoard().countStones(loser.getColor());
+        return winner == game.getCurrentPlayer() ? WIN_BASE + margin : -(WIN_BASE + margin);
+    }
+}
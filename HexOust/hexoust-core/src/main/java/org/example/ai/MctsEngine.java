@@ -0,0 +1,491 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo Tree Search with UCT selection and uniformly random playouts.
+ * All worker threads grow one shared tree. Node statistics are updated with atomic
+ * adds and no locks: a thread counts its visit on the way down, which acts as a
+ * virtual loss until the playout result is added on the way back up, so concurrent
+ * threads spread over different branches. Each worker walks the tree on its own
+ * copy of the position with apply/undo.
+ * After a capture the same player moves again; every node records which player made
+ * its move, so win counts stay correct across continuation plies.
+ * Between searches the subtree of the moves actually played is kept as the new root.
+ */
+public class MctsEngine implements MovePolicy, AutoCloseable {
+    private static final double EXPLORATION = 1.0;
+    // A leaf is expanded once it has been played out from
+    private static final int EXPAND_VISITS = 2;
+    private static final int MAX_PLAYOUT_MOVES = 1000;
+    // How many plies past the previous root to look for the current position
+    private static final int REUSE_DEPTH = 6;
+
+    private final int threads;
+    private final long timeLimitNanos;
+    private final ExecutorService pool;
+    private final SplittableRandom seeds;
+    private long maxPlayouts = Long.MAX_VALUE;
+
+    // Tree kept from the previous search and the position at its root
+    private Node root;
+    private GameController rootGame;
+
+    /**
+     * Search on every available core
+     * @param timeLimitMillis Wall-clock budget per search
+     * @param seed Seed for the playout random sources
+     */
+    public MctsEngine(long timeLimitMillis, long seed) {
+        this(Runtime.getRuntime().availableProcessors(), timeLimitMillis, seed);
+    }
+
+    /**
+     * @param threads Number of worker threads
+     * @param timeLimitMillis Wall-clock budget per search
+     * @param seed Seed for the playout random sources
+     */
+    public MctsEngine(int threads, long timeLimitMillis, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+        this.timeLimitNanos = Math.max(1, timeLimitMillis) * 1_000_000L;
+        this.seeds = new SplittableRandom(seed);
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "hexoust-mcts-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop each search after this many playouts in total, even if time is left
+     */
+    public void setMaxPlayouts(long maxPlayouts) {
+        this.maxPlayouts = maxPlayouts;
+    }
+
+    @Override
+    public int chooseMove(GameController controller, SplittableRandom random) {
+        return search(controller).getBestMove();
+    }
+
+    /**
+     * Search the current position of a game within the time budget
+     * @param source Game to search; not modified
+     * @return The most visited move with search statistics
+     */
+    public MctsResult search(GameController source) {
+        long start = System.nanoTime();
+        long deadline = start + timeLimitNanos;
+
+        Node reused = findReusableRoot(source);
+        // A node closed as a finished game has no children, but the root is always searched
+        root = reused != null && (reused.children == null || reused.children.length > 0)
+                ? reused : new Node(-1, null);
+        root.outcome = Node.ONGOING;
+        rootGame = source.copy();
+        long reusedVisits = root.visits;
+
+        PlayoutBudget budget = new PlayoutBudget(maxPlayouts);
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(root, source.copy(), seeds.split(), deadline, budget));
+        }
+        // Expand the root up front so a search cut short before any playout still has moves
+        if (root.children == null) {
+            root.publishChildren(workers.get(0).expand());
+        }
+
+        List<Future<Long>> running = new ArrayList<>(threads);
+        for (Worker worker : workers) {
+            running.add(pool.submit(worker::run));
+        }
+
+        long playouts = 0;
+        for (Future<Long> worker : running) {
+            playouts += join(worker);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Node best = mostVisitedChild(root);
+        if (best == null) {
+            if (root.children.length == 0) {
+                return new MctsResult(-1, 0, playouts, reusedVisits, threads, elapsed, new int[0]);
+            }
+            // No child was visited in time; any legal move is better than none
+            best = root.children[0];
+            return new MctsResult(best.move, 0, playouts, reusedVisits, threads, elapsed, new int[] {best.move});
+        }
+        double winRate = best.visits == 0 ? 0 : (double) best.wins / best.visits;
+        return new MctsResult(best.move, winRate, playouts, reusedVisits, threads, elapsed,
+                principalVariation(root));
+    }
+
+    /**
+     * Stop the worker threads
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Look for the given position a few plies below the previous root, following only
+     * moves whose stone is still on the board
+     */
+    private Node findReusableRoot(GameController target) {
+        if (root == null || rootGame == null) {
+            return null;
+        }
+        return findPosition(root, rootGame, target, REUSE_DEPTH);
+    }
+
+    private static Node findPosition(Node node, GameController game, GameController target, int depthLeft) {
+        if (samePosition(game, target)) {
+            return node;
+        }
+        Node[] children = node.children;
+        if (depthLeft == 0 || children == null) {
+            return null;
+        }
+
+        Board targetBoard = target.getBoard();
+        for (Node child : children) {
+            if (child.visits == 0 || targetBoard.getColorAt(child.move) != child.mover) {
+                continue;
+            }
+            game.apply(child.move);
+            Node found = findPosition(child, game, target, depthLeft - 1);
+            game.undo();
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static boolean samePosition(GameController a, GameController b) {
+        if (a.getPositionHash() != b.getPositionHash()) {
+            return false;
+        }
+        // Equal hashes: confirm cell by cell
+        if (a.getCurrentPlayer().getColor() != b.getCurrentPlayer().getColor()
+                || a.isContinueCaptureMode() != b.isContinueCaptureMode()) {
+            return false;
+        }
+        Board boardA = a.getBoard();
+        Board boardB = b.getBoard();
+        int cellCount = boardA.getTopology().getCellCount();
+        for (int index = 0; index < cellCount; index++) {
+            if (boardA.getColorAt(index) != boardB.getColorAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Node mostVisitedChild(Node node) {
+        Node[] children = node.children;
+        Node best = null;
+        if (children != null) {
+            for (Node child : children) {
+                if (child.visits > 0 && (best == null || child.visits > best.visits)) {
+                    best = child;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int[] principalVariation(Node node) {
+        List<Integer> line = new ArrayList<>();
+        for (Node child = mostVisitedChild(node); child != null && line.size() < 32; child = mostVisitedChild(child)) {
+            line.add(child.move);
+        }
+        int[] result = new int[line.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = line.get(i);
+        }
+        return result;
+    }
+
+    private static long join(Future<Long> worker) {
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Tree node for the position after a move. Statistics are read and updated
+     * concurrently; children are published once with a compare-and-set.
+     */
+    static final class Node {
+        static final byte UNKNOWN = 0;
+        static final byte ONGOING = 1;
+        static final byte RED_WINS = 2;
+        static final byte BLUE_WINS = 3;
+
+        private static final VarHandle VISITS;
+        private static final VarHandle WINS;
+        private static final VarHandle CHILDREN;
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(Node.class, "visits", int.class);
+                WINS = lookup.findVarHandle(Node.class, "wins", int.class);
+                CHILDREN = lookup.findVarHandle(Node.class, "children", Node[].class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final int move;
+        // Player who made the move leading here; null at the root
+        final PlayerColor mover;
+        volatile Node[] children;
+        // Includes simulations still in flight, which count as losses until they finish
+        volatile int visits;
+        // Simulations through this node won by mover
+        volatile int wins;
+        volatile byte outcome = UNKNOWN;
+
+        Node(int move, PlayerColor mover) {
+            this.move = move;
+            this.mover = mover;
+        }
+
+        void addVisit() {
+            VISITS.getAndAdd(this, 1);
+        }
+
+        void addWin() {
+            WINS.getAndAdd(this, 1);
+        }
+
+        /**
+         * Publish children unless another thread got there first
+         * @return The children now attached to the node
+         */
+        Node[] publishChildren(Node[] created) {
+            Node[] witness = (Node[]) CHILDREN.compareAndExchange(this, (Node[]) null, created);
+            return witness == null ? created : witness;
+        }
+    }
+
+    /**
+     * Shared countdown for the optional playout limit
+     */
+    private static final class PlayoutBudget {
+        private final AtomicLong remaining;
+
+        PlayoutBudget(long limit) {
+            this.remaining = new AtomicLong(limit);
+        }
+
+        boolean take() {
+            return remaining.getAndDecrement() > 0;
+        }
+    }
+
+    /**
+     * One search thread: selection, expansion, playout and backpropagation on a private
+     * copy of the root position
+     */
+    private static final class Worker {
+        private final Node root;
+        private final GameController game;
+        private final SplittableRandom random;
+        private final long deadline;
+        private final PlayoutBudget budget;
+        private final int cellCount;
+        private final int[] legal;
+        private final Node[] path = new Node[MAX_PLAYOUT_MOVES + 1];
+
+        Worker(Node root, GameController game, SplittableRandom random, long deadline, PlayoutBudget budget) {
+            this.root = root;
+            this.game = game;
+            this.random = random;
+            this.deadline = deadline;
+            this.budget = budget;
+            this.cellCount = game.getBoard().getTopology().getCellCount();
+            this.legal = new int[cellCount];
+        }
+
+        long run() {
+            long playouts = 0;
+            while (System.nanoTime() < deadline && budget.take()) {
+                simulate();
+                playouts++;
+            }
+            return playouts;
+        }
+
+        private void simulate() {
+            Node node = root;
+            int depth = 0;
+            path[0] = root;
+            root.addVisit();
+
+            // Selection and expansion
+            PlayerColor winner = null;
+            while (depth < MAX_PLAYOUT_MOVES) {
+                Node[] children = node.children;
+                if (children == null) {
+                    if (node.visits < EXPAND_VISITS) {
+                        break;
+                    }
+                    children = node.publishChildren(expand());
+                }
+                if (children.length == 0) {
+                    break;
+                }
+
+                node = select(node, children);
+                node.addVisit();
+                game.apply(node.move);
+                path[++depth] = node;
+
+                winner = outcome(node);
+                if (winner != null) {
+                    break;
+                }
+            }
+
+            if (winner == null) {
+                winner = playout();
+            }
+
+            // Backpropagation: each node scores for the player who moved into it
+            for (int i = depth; i > 0; i--) {
+                if (path[i].mover == winner) {
+                    path[i].addWin();
+                }
+                game.undo();
+            }
+        }
+
+        /**
+         * Decide and cache whether the position after a node's move ends the game
+         */
+        private PlayerColor outcome(Node node) {
+            byte outcome = node.outcome;
+            if (outcome == Node.UNKNOWN) {
+                Player winner = game.findWinner();
+                outcome = winner == null ? Node.ONGOING
+                        : winner.getColor() == PlayerColor.RED ? Node.RED_WINS : Node.BLUE_WINS;
+                node.outcome = outcome;
+                if (outcome != Node.ONGOING) {
+                    node.publishChildren(Node.NO_CHILDREN);
+                }
+            }
+            if (outcome == Node.RED_WINS) {
+                return PlayerColor.RED;
+            }
+            return outcome == Node.BLUE_WINS ? PlayerColor.BLUE : null;
+        }
+
+        private Node[] expand() {
+            PlayerColor mover = game.getCurrentPlayer().getColor();
+            int count = collectLegalMoves();
+            Node[] children = new Node[count];
+            for (int i = 0; i < count; i++) {
+                children[i] = new Node(legal[i], mover);
+            }
+            return children;
+        }
+
+        /**
+         * UCT: mover's win rate plus an exploration bonus; unvisited children first
+         */
+        private Node select(Node parent, Node[] children) {
+            double logParentVisits = Math.log(Math.max(1, parent.visits));
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                int visits = child.visits;
+                if (visits == 0) {
+                    return child;
+                }
+                double value = (double) child.wins / visits + EXPLORATION * Math.sqrt(logParentVisits / visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Play random legal moves to the end of the game and take them back
+         * @return The winner; at the move limit, the player with more stones
+         */
+        private PlayerColor playout() {
+            PlayerColor winner = null;
+            int played = 0;
+            while (played < MAX_PLAYOUT_MOVES) {
+                int count = collectLegalMoves();
+                if (count == 0) {
+                    break;
+                }
+                game.apply(legal[random.nextInt(count)]);
+                played++;
+
+                Player decided = game.findWinner();
+                if (decided != null) {
+                    winner = decided.getColor();
+                    break;
+                }
+            }
+
+            if (winner == null) {
+                Board board = game.getBoard();
+                PlayerColor current = game.getCurrentPlayer().getColor();
+                winner = board.countStones(current) >= board.countStones(current.opponent())
+                        ? current : current.opponent();
+            }
+            for (int i = 0; i < played; i++) {
+                game.undo();
+            }
+            return winner;
+        }
+
+        private int collectLegalMoves() {
+            int count = 0;
+            for (int index = 0; index < cellCount; index++) {
+                if (game.canPlaceStone(index)) {
+                    legal[count++] = index;
+                }
+            }
+            return count;
+        }
+    }
+}
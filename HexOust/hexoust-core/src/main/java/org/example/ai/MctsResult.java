@@ -0,0 +1,82 @@
+package org.example.ai;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of one MCTS search. Win rates are from the point of view of the
+ * player to move at the root.
+ */
+public class MctsResult {
+    private final int bestMove;
+    private final double winRate;
+    private final long playouts;
+    private final long reusedVisits;
+    private final int threads;
+    private final long elapsedNanos;
+    private final int[] principalVariation;
+
+    public MctsResult(int bestMove, double winRate, long playouts, long reusedVisits, int threads,
+                      long elapsedNanos, int[] principalVariation) {
+        this.bestMove = bestMove;
+        this.winRate = winRate;
+        this.playouts = playouts;
+        this.reusedVisits = reusedVisits;
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.principalVariation = principalVariation.clone();
+    }
+
+    /**
+     * @return Position index of the most visited move, or -1 if there is no legal move
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * @return Fraction of simulations through the best move that the root player won
+     */
+    public double getWinRate() {
+        return winRate;
+    }
+
+    /**
+     * @return Playouts run by this search, not counting reused ones
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * @return Visits the root already had from the previous search's subtree
+     */
+    public long getReusedVisits() {
+        return reusedVisits;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getPlayoutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : playouts * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return Most visited line from the root
+     */
+    public int[] getPrincipalVariation() {
+        return principalVariation.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("move=%d winRate=%.3f playouts=%d (%.0f playouts/sec, %d threads) reused=%d pv=%s",
+                bestMove, winRate, playouts, getPlayoutsPerSecond(), threads, reusedVisits,
+                Arrays.toString(principalVariation));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.controller.LegalMoveList;
+import org.example.controller.MoveAnalysis;
+
+/**
+ * Move generation with the ordering shared by the searches: the hinted move, then
+ * captures by number of stones taken, then other CP moves by merged group size,
+ * then NCP moves.
+ */
+final class MoveOrdering {
+    private MoveOrdering() {
+    }
+
+    /**
+     * Fill a list with the legal moves of the side to move, best first
+     * @param game Position to generate moves for
+     * @param legal Scratch move list owned by the caller
+     * @param hint Move to try first, or -1
+     * @param list Output moves, at least one slot per cell
+     * @param keys Scratch ordering keys, same length as list
+     * @return Number of legal moves
+     */
+    static int generate(GameController game, LegalMoveList legal, int hint, int[] list, int[] keys) {
+        game.generateLegalMoves(game.getCurrentPlayer(), legal);
+        int cellCount = game.getBoard().getTopology().getCellCount();
+        int count = legal.size();
+
+        for (int i = 0; i < count; i++) {
+            int index = legal.getMove(i);
+            int key;
+            if (index == hint) {
+                key = Integer.MAX_VALUE;
+            } else if (legal.isCapture(i)) {
+                key = 2 * cellCount + legal.getCapturedCount(i);
+            } else if (legal.getType(i) == MoveAnalysis.MoveType.CP) {
+                key = cellCount + legal.getMergedGroupSize(i);
+            } else {
+                key = 0;
+            }
+
+            // Insertion sort, descending by key
+            int slot = i;
+            while (slot > 0 && keys[slot - 1] < key) {
+                list[slot] = list[slot - 1];
+                keys[slot] = keys[slot - 1];
+                slot--;
+            }
+            list[slot] = index;
+            keys[slot] = key;
+        }
+        return count;
+    }
+}
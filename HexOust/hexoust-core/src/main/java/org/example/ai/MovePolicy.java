@@ -0,0 +1,22 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chooses the next placement for the side to move. The self-play runner asks
+ * again after every capture, so a policy sees each move of a continuous-capture
+ * turn separately. Implementations may keep scratch buffers and are used by
+ * one thread at a time.
+ */
+public interface MovePolicy {
+
+    /**
+     * Choose a move for controller.getCurrentPlayer()
+     * @param controller Game in progress; must not be modified
+     * @param random Random source owned by the calling thread
+     * @return A legal position index, or -1 if the player has no legal move
+     */
+    int chooseMove(GameController controller, SplittableRandom random);
+}
@@ -0,0 +1,130 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the positions reachable in exactly N placements, the standard check that
+ * two move generators implement the same rules. Every placement is one ply, so a
+ * capture and the continuation that follows it are separate plies. A finished game
+ * has no moves: findWinner ends a line before its last ply, except at the root,
+ * which is always expanded like in the engines.
+ * Root moves are counted on a pool of worker threads, each on its own copy of the
+ * position using apply/undo.
+ */
+public final class Perft {
+    private Perft() {
+    }
+
+    /**
+     * Count leaf positions on the calling thread
+     * @param source Starting position; not modified
+     * @param depth Number of plies, at least 0
+     * @return Number of positions at exactly that depth
+     */
+    public static long count(GameController source, int depth) {
+        return count(source.copy(), depth, true);
+    }
+
+    /**
+     * Count leaf positions, split per root move across worker threads
+     * @param source Starting position; not modified
+     * @param depth Number of plies, at least 1
+     * @param threads Number of worker threads
+     * @return Total and per-root-move counts with timing
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static PerftResult divide(GameController source, int depth, int threads) throws InterruptedException {
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be positive: " + depth);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+
+        long start = System.nanoTime();
+        List<Integer> rootMoves = new ArrayList<>();
+        for (int index = 0; index < source.getBoard().getTopology().getCellCount(); index++) {
+            if (source.canPlaceStone(index)) {
+                rootMoves.add(index);
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, workerFactory());
+        try {
+            List<Future<Long>> counts = new ArrayList<>();
+            for (int move : rootMoves) {
+                counts.add(pool.submit(() -> {
+                    GameController game = source.copy();
+                    game.apply(move);
+                    return count(game, depth - 1, false);
+                }));
+            }
+
+            int[] moves = new int[rootMoves.size()];
+            long[] leaves = new long[rootMoves.size()];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = rootMoves.get(i);
+                leaves[i] = get(counts.get(i));
+            }
+            return new PerftResult(depth, moves, leaves, System.nanoTime() - start);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long count(GameController game, int depth, boolean root) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (!root && game.findWinner() != null) {
+            return 0;
+        }
+
+        int cellCount = game.getBoard().getTopology().getCellCount();
+        long leaves = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (!game.canPlaceStone(index)) {
+                continue;
+            }
+            if (depth == 1) {
+                // Bulk count: the last ply only needs the legal moves, not the positions
+                leaves++;
+            } else {
+                game.apply(index);
+                leaves += count(game, depth - 1, false);
+                game.undo();
+            }
+        }
+        return leaves;
+    }
+
+    private static long get(Future<Long> count) throws InterruptedException {
+        try {
+            return count.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "hexoust-perft-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.ai;
+
+/**
+ * Leaf counts of a perft run, in total and per root move.
+ */
+public class PerftResult {
+    private final int depth;
+    private final int[] rootMoves;
+    private final long[] rootCounts;
+    private final long elapsedNanos;
+
+    public PerftResult(int depth, int[] rootMoves, long[] rootCounts, long elapsedNanos) {
+        this.depth = depth;
+        this.rootMoves = rootMoves.clone();
+        this.rootCounts = rootCounts.clone();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return Total number of positions at the depth
+     */
+    public long getNodes() {
+        long nodes = 0;
+        for (long count : rootCounts) {
+            nodes += count;
+        }
+        return nodes;
+    }
+
+    /**
+     * @return Legal moves of the starting position, in index order
+     */
+    public int[] getRootMoves() {
+        return rootMoves.clone();
+    }
+
+    /**
+     * @return Positions at the depth below each root move, parallel to getRootMoves()
+     */
+    public long[] getRootCounts() {
+        return rootCounts.clone();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getNodes() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth=%d nodes=%d elapsed=%.1fms (%.0f nodes/sec)",
+                depth, getNodes(), elapsedNanos / 1e6, getNodesPerSecond());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+
+import java.util.SplittableRandom;
+
+/**
+ * Picks uniformly among the legal moves of the side to move.
+ */
+public class RandomMovePolicy implements MovePolicy {
+    private int[] legal = new int[0];
+
+    @Override
+    public int chooseMove(GameController controller, SplittableRandom random) {
+        int cellCount = controller.getBoard().getTopology().getCellCount();
+        if (legal.length < cellCount) {
+            legal = new int[cellCount];
+        }
+
+        int count = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (controller.canPlaceStone(index)) {
+                legal[count++] = index;
+            }
+        }
+        return count == 0 ? -1 : legal[random.nextInt(count)];
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.ai;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of one engine search: the chosen move and how the search got there.
+ * Scores are from the point of view of the player to move at the root.
+ */
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final int[] principalVariation;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos,
+                        int[] principalVariation) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.principalVariation = principalVariation.clone();
+    }
+
+    /**
+     * @return Position index of the move to play, or -1 if there is no legal move
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Deepest fully completed iteration, 0 if the move was forced
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return Expected line of play from the root; consecutive moves by the same
+     * player are capture continuations
+     */
+    public int[] getPrincipalVariation() {
+        return principalVariation.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("move=%d score=%d depth=%d nodes=%d (%.0f nodes/sec) pv=%s",
+                bestMove, score, depth, nodes, getNodesPerSecond(), Arrays.toString(principalVariation));
+    }
+}
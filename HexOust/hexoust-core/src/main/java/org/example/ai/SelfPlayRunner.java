@@ -0,0 +1,176 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.BoardRepresentation;
+import org.example.model.GameState;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Plays games headless through GameController.makeMove on a pool of worker threads.
+ * Games are split into fixed-size batches and each batch gets its own SplittableRandom
+ * split from the seed in batch order, so the totals for a seed do not depend on the
+ * number of threads or on scheduling.
+ */
+public class SelfPlayRunner {
+    public static final int DEFAULT_MAX_MOVES = 10_000;
+    private static final int GAMES_PER_BATCH = 64;
+
+    private final Supplier<MovePolicy> redPolicy;
+    private final Supplier<MovePolicy> bluePolicy;
+    private final BoardRepresentation representation;
+    private final int threads;
+    private int maxMoves = DEFAULT_MAX_MOVES;
+
+    /**
+     * Both sides play the same policy on every available core
+     * @param policy Creates one policy instance per batch
+     */
+    public SelfPlayRunner(Supplier<MovePolicy> policy) {
+        this(policy, policy, BoardRepresentation.BITBOARD, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param redPolicy Creates the red policy, one instance per batch
+     * @param bluePolicy Creates the blue policy, one instance per batch
+     * @param representation Board representation used for every game
+     * @param threads Number of worker threads
+     */
+    public SelfPlayRunner(Supplier<MovePolicy> redPolicy, Supplier<MovePolicy> bluePolicy,
+                          BoardRepresentation representation, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.redPolicy = redPolicy;
+        this.bluePolicy = bluePolicy;
+        this.representation = representation;
+        this.threads = threads;
+    }
+
+    /**
+     * Limit the number of placements per game; longer games count as unfinished
+     */
+    public void setMaxMoves(int maxMoves) {
+        this.maxMoves = maxMoves;
+    }
+
+    /**
+     * Play a number of games and return the combined statistics
+     * @param games Number of games
+     * @param seed Seed for the whole run
+     * @return Totals, including wall time
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public SelfPlayStats run(int games, long seed) throws InterruptedException {
+        SplittableRandom master = new SplittableRandom(seed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads, workerFactory());
+        long start = System.nanoTime();
+        try {
+            List<Future<SelfPlayStats>> batches = new ArrayList<>();
+            for (int first = 0; first < games; first += GAMES_PER_BATCH) {
+                int count = Math.min(GAMES_PER_BATCH, games - first);
+                SplittableRandom random = master.split();
+                batches.add(pool.submit(() -> playBatch(count, random)));
+            }
+
+            SelfPlayStats total = new SelfPlayStats();
+            for (Future<SelfPlayStats> batch : batches) {
+                total.merge(get(batch));
+            }
+            total.setElapsedNanos(System.nanoTime() - start);
+            return total;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Play a batch of games on the calling thread
+     */
+    SelfPlayStats playBatch(int games, SplittableRandom random) {
+        MovePolicy red = redPolicy.get();
+        MovePolicy blue = bluePolicy.get();
+        SelfPlayStats stats = new SelfPlayStats();
+        for (int i = 0; i < games; i++) {
+            playGame(new GameController(representation), red, blue, random, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Play one game to the end or to the move limit and record it
+     */
+    void playGame(GameController controller, MovePolicy red, MovePolicy blue,
+                  SplittableRandom random, SelfPlayStats stats) {
+        GameState gameState = controller.getGameState();
+        Board board = controller.getBoard();
+        int moves = 0;
+        int chainLength = 0;
+        int chainStones = 0;
+
+        while (!gameState.isGameOver() && moves < maxMoves) {
+            Player player = controller.getCurrentPlayer();
+            MovePolicy policy = player.getColor() == PlayerColor.RED ? red : blue;
+            int index = policy.chooseMove(controller, random);
+            if (index < 0) {
+                break;
+            }
+
+            PlayerColor opponent = player.getColor().opponent();
+            int opponentStones = board.countStones(opponent);
+            if (!controller.makeMove(index)) {
+                throw new IllegalStateException("Policy chose an illegal move: " + index);
+            }
+            moves++;
+
+            // A capture keeps the same player on move; the chain ends with the turn
+            if (controller.isContinueCaptureMode()) {
+                chainLength++;
+                chainStones += opponentStones - board.countStones(opponent);
+            } else if (chainLength > 0) {
+                stats.recordChain(chainLength, chainStones);
+                chainLength = 0;
+                chainStones = 0;
+            }
+        }
+        if (chainLength > 0) {
+            stats.recordChain(chainLength, chainStones);
+        }
+
+        Player winner = gameState.isGameOver() ? gameState.getWinner() : null;
+        stats.recordGame(winner == null ? null : winner.getColor(), moves);
+    }
+
+    private static SelfPlayStats get(Future<SelfPlayStats> batch) throws InterruptedException {
+        try {
+            return batch.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "hexoust-selfplay-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
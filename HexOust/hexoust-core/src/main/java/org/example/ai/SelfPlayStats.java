@@ -0,0 +1,117 @@
+package org.example.ai;
+
+import org.example.model.PlayerColor;
+
+/**
+ * Totals over a batch of self-play games. A capture chain is one turn in which
+ * the player captured at least once; its length is the number of capturing
+ * placements in that turn.
+ */
+public class SelfPlayStats {
+    private long games;
+    private long moves;
+    private long redWins;
+    private long blueWins;
+    private long unfinished;
+    private long captureChains;
+    private long captureMoves;
+    private long capturedStones;
+    private int longestChain;
+    private long elapsedNanos;
+
+    void recordGame(PlayerColor winner, int gameMoves) {
+        games++;
+        moves += gameMoves;
+        if (winner == PlayerColor.RED) {
+            redWins++;
+        } else if (winner == PlayerColor.BLUE) {
+            blueWins++;
+        } else {
+            unfinished++;
+        }
+    }
+
+    void recordChain(int length, int stones) {
+        captureChains++;
+        captureMoves += length;
+        capturedStones += stones;
+        longestChain = Math.max(longestChain, length);
+    }
+
+    void merge(SelfPlayStats other) {
+        games += other.games;
+        moves += other.moves;
+        redWins += other.redWins;
+        blueWins += other.blueWins;
+        unfinished += other.unfinished;
+        captureChains += other.captureChains;
+        captureMoves += other.captureMoves;
+        capturedStones += other.capturedStones;
+        longestChain = Math.max(longestChain, other.longestChain);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getWins(PlayerColor color) {
+        return color == PlayerColor.RED ? redWins : blueWins;
+    }
+
+    /**
+     * Games stopped at the move limit without a winner
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public double getWinRate(PlayerColor color) {
+        return games == 0 ? 0 : (double) getWins(color) / games;
+    }
+
+    public double getAverageLength() {
+        return games == 0 ? 0 : (double) moves / games;
+    }
+
+    public long getCaptureChains() {
+        return captureChains;
+    }
+
+    public double getAverageChainLength() {
+        return captureChains == 0 ? 0 : (double) captureMoves / captureChains;
+    }
+
+    public int getLongestChain() {
+        return longestChain;
+    }
+
+    public long getCapturedStones() {
+        return capturedStones;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "games=%d (%.0f games/sec) avgLength=%.1f red=%.1f%% blue=%.1f%% unfinished=%d "
+                        + "chains=%d avgChain=%.2f longestChain=%d captured=%d",
+                games, getGamesPerSecond(), getAverageLength(),
+                100 * getWinRate(PlayerColor.RED), 100 * getWinRate(PlayerColor.BLUE), unfinished,
+                captureChains, getAverageChainLength(), longestChain, capturedStones);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.ai;
+
+/**
+ * Outcome of an exact endgame search, from the point of view of the player to move.
+ * The margin is the winner's stone count minus the loser's at the end of perfect
+ * play; it can be negative when the game is won by leaving the opponent without
+ * a legal move.
+ */
+public class SolverResult {
+    public enum Outcome {
+        WIN,
+        LOSS,
+        // The node or time limit ran out before the position was proven
+        UNKNOWN
+    }
+
+    private final Outcome outcome;
+    private final int bestMove;
+    private final int margin;
+    private final boolean marginExact;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SolverResult(Outcome outcome, int bestMove, int margin, boolean marginExact,
+                        long nodes, long elapsedNanos) {
+        this.outcome = outcome;
+        this.bestMove = bestMove;
+        this.margin = margin;
+        this.marginExact = marginExact;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isSolved() {
+        return outcome != Outcome.UNKNOWN;
+    }
+
+    /**
+     * @return A move that keeps the proven outcome, or -1 if unsolved or the game is already over
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * @return Final stone margin of the winner; only meaningful if isMarginExact()
+     */
+    public int getMargin() {
+        return margin;
+    }
+
+    /**
+     * @return true if the margin was proven too, not only the outcome
+     */
+    public boolean isMarginExact() {
+        return marginExact;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("outcome=%s move=%d margin=%s nodes=%d elapsed=%.1fms",
+                outcome, bestMove, marginExact ? Integer.toString(margin) : "?", nodes, elapsedNanos / 1e6);
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size position cache shared by search threads without locks.
+ * Entries live in a flat long[] as pairs (hash ^ data, data). A reader accepts an
+ * entry only if the two words XOR back to the probed hash, so an entry torn by a
+ * concurrent write is seen as a miss rather than as wrong data. Buckets hold two
+ * entries; a store overwrites the same position if present, otherwise an empty
+ * or stale entry, otherwise the shallower one.
+ * Probe and store counters are only kept when asked for at construction, so the
+ * shared hot path does not write to common counters by default.
+ *
+ * Data word layout:
+ * bits 0-15 move + 1 (0 = none), 16-23 depth, 24-25 bound, 26 valid, 27-31 age, 32-63 score.
+ */
+public class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_ENTRIES = 2;
+    private static final int BUCKET_LONGS = ENTRY_LONGS * BUCKET_ENTRIES;
+    private static final long VALID = 1L << 26;
+    private static final int AGE_SHIFT = 27;
+    private static final int AGE_MASK = 0x1F;
+
+    private final long[] table;
+    private final int bucketBits;
+    // Written by newSearch and read by every thread that stores
+    private volatile int age = 0;
+    private final boolean collectStats;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * @param megabytes Memory for the table; rounded down to a power-of-two number of buckets
+     */
+    public TranspositionTable(int megabytes) {
+        this(megabytes, false);
+    }
+
+    /**
+     * @param megabytes Memory for the table; rounded down to a power-of-two number of buckets
+     * @param collectStats true to count probes, hits, collisions, stores and replacements
+     */
+    public TranspositionTable(int megabytes, boolean collectStats) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("megabytes must be positive: " + megabytes);
+        }
+        long buckets = Long.highestOneBit((long) megabytes * 1024 * 1024 / (BUCKET_LONGS * Long.BYTES));
+        // Stay within the int index range of a single array
+        buckets = Math.min(buckets, 1L << 28);
+        this.bucketBits = Long.numberOfTrailingZeros(buckets);
+        this.table = new long[(int) buckets * BUCKET_LONGS];
+        this.collectStats = collectStats;
+    }
+
+    /**
+     * Look a position up
+     * @param hash Position hash
+     * @return The entry's data word, or 0 on a miss
+     */
+    public long probe(long hash) {
+        if (collectStats) {
+            probes.increment();
+        }
+        int base = bucketOf(hash);
+        boolean occupied = false;
+        for (int slot = base; slot < base + BUCKET_LONGS; slot += ENTRY_LONGS) {
+            long data = table[slot + 1];
+            if ((table[slot] ^ data) == hash && data != 0) {
+                if (collectStats) {
+                    hits.increment();
+                }
+                return data;
+            }
+            occupied |= data != 0;
+        }
+        if (collectStats && occupied) {
+            // The bucket holds other positions
+            collisions.increment();
+        }
+        return 0;
+    }
+
+    /**
+     * Store a search result for a position
+     * @param hash Position hash
+     * @param move Best move found, or -1
+     * @param score Score from the point of view of the side to move
+     * @param depth Remaining search depth the score was computed with
+     * @param bound EXACT, LOWER_BOUND or UPPER_BOUND
+     */
+    public void store(long hash, int move, int score, int depth, int bound) {
+        if (collectStats) {
+            stores.increment();
+        }
+        int currentAge = age & AGE_MASK;
+        long data = ((long) score << 32)
+                | ((long) currentAge << AGE_SHIFT)
+                | VALID
+                | ((long) (bound & 0x3) << 24)
+                | ((long) Math.min(Math.max(depth, 0), 255) << 16)
+                | ((move + 1) & 0xFFFFL);
+
+        int base = bucketOf(hash);
+        int victim = -1;
+        int victimRank = Integer.MAX_VALUE;
+        for (int slot = base; slot < base + BUCKET_LONGS; slot += ENTRY_LONGS) {
+            long existing = table[slot + 1];
+            if ((table[slot] ^ existing) == hash && existing != 0) {
+                // Same position: keep a deeper result from this search
+                if (depth >= depth(existing) || age(existing) != currentAge || bound == EXACT) {
+                    write(slot, hash, data);
+                }
+                return;
+            }
+
+            // Empty entries first, then entries from older searches, then the shallowest
+            int rank = existing == 0 ? -2
+                    : age(existing) != currentAge ? -1
+                    : depth(existing);
+            if (rank < victimRank) {
+                victimRank = rank;
+                victim = slot;
+            }
+        }
+
+        if (collectStats && victimRank != -2) {
+            replacements.increment();
+        }
+        write(victim, hash, data);
+    }
+
+    /**
+     * Mark the start of a new search so entries from earlier searches are replaced first.
+     * Called by one thread while no search is storing.
+     */
+    public void newSearch() {
+        age++;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+        stores.reset();
+        replacements.reset();
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0xFFFF) - 1;
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> 16) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> 24) & 0x3;
+    }
+
+    public static int score(long data) {
+        return (int) (data >> 32);
+    }
+
+    /**
+     * @return Number of entries the table can hold
+     */
+    public long getCapacity() {
+        return (long) table.length / ENTRY_LONGS;
+    }
+
+    /**
+     * @return Whether the counters below are kept; they stay 0 otherwise
+     */
+    public boolean isCollectingStats() {
+        return collectStats;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0 : (double) hits.sum() / probeCount;
+    }
+
+    /**
+     * @return Misses that found their bucket filled with other positions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * @return Stores that evicted a different position
+     */
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("capacity=%d probes=%d hitRate=%.3f collisions=%d stores=%d replacements=%d",
+                getCapacity(), getProbes(), getHitRate(), getCollisions(), getStores(), getReplacements());
+    }
+
+    private int bucketOf(long hash) {
+        return (int) (hash >>> (64 - bucketBits)) * BUCKET_LONGS;
+    }
+
+    private void write(int slot, long hash, long data) {
+        table[slot] = hash ^ data;
+        table[slot + 1] = data;
+    }
+
+    private static int age(long data) {
+        return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+    }
+}
@@ -0,0 +1,433 @@
+package org.example.controller;
+
+import org.example.model.Board;
+import org.example.model.BoardChange;
+import org.example.model.BoardRepresentation;
+import org.example.model.GameState;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+import org.example.model.Zobrist;
+import org.example.trace.MoveTraceEvent;
+import org.example.trace.Trace;
+import org.example.trace.TraceLevel;
+
+import java.util.Arrays;
+
+
+public class GameController {
+    private final Board board;
+    private final GameState gameState;
+    private final MoveValidator moveValidator;
+    private final LegalMoveTracker legalMoves;
+    private final MoveAnalysis moveAnalysis;
+    private final LegalMoveGenerator legalMoveGenerator;
+
+    // Undo records for apply(): captured positions, then placed index, captured count and flags
+    private int[] undoStack = new int[64];
+    private int undoSize = 0;
+    private static final int UNDO_WAS_CAPTURE_MODE = 1;
+    private static final int UNDO_SWITCHED_PLAYER = 2;
+
+    public GameController() {
+        this(BoardRepresentation.CELLS);
+    }
+
+    public GameController(BoardRepresentation representation) {
+        this.board = new Board(representation);
+        this.gameState = new GameState();
+        this.moveValidator = new MoveValidator(board);
+        this.legalMoves = new LegalMoveTracker(board);
+        this.legalMoveGenerator = new LegalMoveGenerator(board);
+        this.moveAnalysis = moveValidator.newAnalysis();
+    }
+
+    public boolean makeMove(int index) {
+        if (gameState.isGameOver()) {
+            Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.MOVE_REJECTED, null, index, 0);
+            return false;
+        }
+
+        Player currentPlayer = gameState.getCurrentPlayer();
+
+        // Validate once and apply the analysis directly
+        MoveAnalysis analysis = moveValidator.analyze(currentPlayer, index, moveAnalysis);
+        switch (analysis.getType()) {
+            case NCP:
+                board.placeStone(currentPlayer, index);
+                Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.NCP_PLACED, currentPlayer.getColor(), index, 0);
+                // An NCP move in continuous capture mode also ends the current turn
+                endCaptureMode();
+                break;
+            case CP:
+                performCapture(currentPlayer, analysis);
+                break;
+            default:
+                Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.MOVE_REJECTED, currentPlayer.getColor(), index, 0);
+                return false;
+        }
+
+        if (board.hasBoardChangeListeners()) {
+            int[] captured = new int[analysis.getCapturedCount()];
+            for (int i = 0; i < captured.length; i++) {
+                captured[i] = analysis.getCapturedPosition(i);
+            }
+            board.fireBoardChange(new BoardChange(currentPlayer.getColor(), index, captured));
+        }
+
+        // Check if game is over
+        checkGameStatus();
+
+        return true;
+    }
+
+    private void performCapture(Player currentPlayer, MoveAnalysis analysis) {
+        int index = analysis.getIndex();
+        board.placeStone(currentPlayer, index);
+        Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.CP_PLACED, currentPlayer.getColor(), index, 0);
+
+        if (analysis.isCapture()) {
+            for (int i = 0; i < analysis.getCapturedCount(); i++) {
+                board.removeStone(analysis.getCapturedPosition(i));
+            }
+            Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.CAPTURED, currentPlayer.getColor(), index, analysis.getCapturedCount());
+            gameState.setCaptureMode(true);
+            Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.CAPTURE_CONTINUES, currentPlayer.getColor(), index, 0);
+        } else {
+            endCaptureMode();
+        }
+    }
+
+    private void endCaptureMode() {
+        // Leave capture mode first so turn listeners see the new turn as a normal one
+        gameState.setCaptureMode(false);
+        gameState.switchPlayer();
+        Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.TURN_ENDED, gameState.getCurrentPlayer().getColor(), -1, 0);
+    }
+
+    /**
+     * Play a move for the current player without notifying game state listeners,
+     * tracing or checking for the end of the game, and record it for undo().
+     * Search code pairs every successful apply with one undo on the same controller;
+     * makeMove does not record anything and must not be interleaved with open applies.
+     * @param index Position index
+     * @return true if the move was legal and has been applied
+     */
+    public boolean apply(int index) {
+        if (gameState.isGameOver()) {
+            return false;
+        }
+
+        Player currentPlayer = gameState.getCurrentPlayer();
+        MoveAnalysis analysis = moveValidator.analyze(currentPlayer, index, moveAnalysis);
+        if (!analysis.isLegal()) {
+            return false;
+        }
+
+        int capturedCount = analysis.getCapturedCount();
+        if (undoSize + capturedCount + 3 > undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, Math.max(undoStack.length * 2, undoSize + capturedCount + 3));
+        }
+
+        board.placeStone(currentPlayer, index);
+        for (int i = 0; i < capturedCount; i++) {
+            int position = analysis.getCapturedPosition(i);
+            board.removeStone(position);
+            undoStack[undoSize++] = position;
+        }
+
+        int flags = gameState.isCaptureMode() ? UNDO_WAS_CAPTURE_MODE : 0;
+        if (analysis.isCapture()) {
+            // The same player moves again
+            gameState.setCaptureModeQuietly(true);
+        } else {
+            gameState.setCaptureModeQuietly(false);
+            gameState.switchPlayerQuietly();
+            flags |= UNDO_SWITCHED_PLAYER;
+        }
+
+        undoStack[undoSize++] = index;
+        undoStack[undoSize++] = capturedCount;
+        undoStack[undoSize++] = flags;
+        return true;
+    }
+
+    /**
+     * Take back the last move made with apply(), restoring captured stones,
+     * the side to move and capture mode
+     */
+    public void undo() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("No applied move to undo");
+        }
+
+        int flags = undoStack[--undoSize];
+        int capturedCount = undoStack[--undoSize];
+        int index = undoStack[--undoSize];
+
+        if ((flags & UNDO_SWITCHED_PLAYER) != 0) {
+            gameState.switchPlayerQuietly();
+        }
+        gameState.setCaptureModeQuietly((flags & UNDO_WAS_CAPTURE_MODE) != 0);
+
+        Player mover = gameState.getCurrentPlayer();
+        Player opponent = gameState.getPlayer(mover.getColor().opponent());
+        board.removeStone(index);
+        for (int i = 0; i < capturedCount; i++) {
+            board.placeStone(opponent, undoStack[--undoSize]);
+        }
+    }
+
+    /**
+     * Get the number of applied moves that can still be undone
+     */
+    public int getUndoDepth() {
+        int depth = 0;
+        for (int top = undoSize; top > 0; top -= undoStack[top - 2] + 3) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Create an independent controller holding the same position: stones, side to move
+     * and capture mode. Listeners, the game-over flag and undo records are not copied.
+     * @return A new controller for search or analysis
+     */
+    public GameController copy() {
+        return copy(board.getRepresentation());
+    }
+
+    /**
+     * Copy the position onto a board with another representation
+     * @param representation Representation of the copy's board
+     * @return Independent copy of the stones, side to move and capture mode
+     */
+    public GameController copy(BoardRepresentation representation) {
+        GameController copy = new GameController(representation);
+        for (int index = 0; index < board.getTopology().getCellCount(); index++) {
+            PlayerColor color = board.getColorAt(index);
+            if (color != null) {
+                copy.board.placeStone(copy.gameState.getPlayer(color), index);
+            }
+        }
+        if (copy.getCurrentPlayer().getColor() != getCurrentPlayer().getColor()) {
+            copy.gameState.switchPlayerQuietly();
+        }
+        copy.gameState.setCaptureModeQuietly(gameState.isCaptureMode());
+        return copy;
+    }
+
+    public Player getCurrentPlayer() {
+        return gameState.getCurrentPlayer();
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Analyse a placement by the current player without changing the board
+     * @param index Position index
+     * @return The analysis; ILLEGAL if the game is over
+     */
+    public MoveAnalysis analyzeMove(int index) {
+        Player currentPlayer = getCurrentPlayer();
+        MoveAnalysis analysis = moveValidator.newAnalysis();
+        if (gameState.isGameOver()) {
+            analysis.reset(currentPlayer, index);
+            return analysis;
+        }
+        return moveValidator.analyze(currentPlayer, index, analysis);
+    }
+
+    public boolean canPlaceStone(int index) {
+        if (gameState.isGameOver()) {
+            return false;
+        }
+
+        return moveValidator.validateMove(index)
+                && legalMoves.isLegal(index, getCurrentPlayer().getColor());
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Check whether the current player continues after a capture, as kept by GameState
+     */
+    public boolean isContinueCaptureMode() {
+        return gameState.isCaptureMode();
+    }
+
+    /**
+     * Get the Zobrist hash of the position: the stones, the side to move and capture mode
+     * @return 64-bit position hash, maintained incrementally
+     */
+    public long getPositionHash() {
+        return board.getHash() ^ turnKeys();
+    }
+
+    /**
+     * Get a position hash shared by all 12 symmetric variants of the position, for
+     * caches that should store each of them once
+     * @return Canonical stone hash combined with the side to move and capture mode
+     */
+    public long getCanonicalPositionHash() {
+        return board.getCanonicalHash() ^ turnKeys();
+    }
+
+    /**
+     * Get the position hash of the position mapped by a board symmetry
+     * @param transform Transform number, 0 to 11
+     * @return Position hash of the transformed position
+     */
+    public long getPositionHash(int transform) {
+        return board.getSymmetricHash(transform) ^ turnKeys();
+    }
+
+    private long turnKeys() {
+        long keys = 0;
+        if (gameState.getCurrentPlayer().getColor() == PlayerColor.BLUE) {
+            keys ^= Zobrist.BLUE_TO_MOVE;
+        }
+        if (gameState.isCaptureMode()) {
+            keys ^= Zobrist.CAPTURE_MODE;
+        }
+        return keys;
+    }
+
+    // Skip capture turn method removed
+
+    /**
+     * Check if the player has legal moves
+     * @param player The player to check
+     * @return true if the player has legal moves
+     */
+    public boolean hasLegalMoves(Player player) {
+        // Legal NCP and CP moves are kept up to date as stones change
+        return legalMoves.hasLegalMoves(player.getColor());
+    }
+
+    /**
+     * Generate all legal moves of a player in one pass over the board
+     * @param player The player to move
+     * @return A new list of the legal moves; empty once the game is over
+     */
+    public LegalMoveList generateLegalMoves(Player player) {
+        return generateLegalMoves(player, new LegalMoveList(board.getTopology().getCellCount()));
+    }
+
+    /**
+     * Generate all legal moves of a player into a reusable list without allocating.
+     * The moves come from the tracked legal moves; merged group sizes and captures of
+     * CP moves come from one pass over the groups, see LegalMoveGenerator.
+     * @param player The player to move
+     * @param out List to overwrite
+     * @return out
+     */
+    public LegalMoveList generateLegalMoves(Player player, LegalMoveList out) {
+        out.reset(player);
+        if (gameState.isGameOver()) {
+            return out;
+        }
+
+        legalMoveGenerator.generate(player, legalMoves.getMoveTypes(player.getColor()), out);
+        return out;
+    }
+
+    /**
+     * Count the legal moves of a player
+     * @param player The player to check
+     * @return Number of empty cells where the player may place a stone
+     */
+    public int countLegalMoves(Player player) {
+        return legalMoves.countLegalMoves(player.getColor());
+    }
+
+    /**
+     * Check if the player has stones on the board
+     * @param player The player to check
+     * @return true if the player has stones
+     */
+    public boolean hasStones(Player player) {
+        return board.countStones(player.getColor()) > 0;
+    }
+
+    /**
+     * Check game status and decide if the game is over
+     */
+    public void checkGameStatus() {
+        decideWinner(true);
+    }
+
+    /**
+     * Work out whether the current position is decided, without changing the game state
+     * @return The winner, or null if the game goes on
+     */
+    public Player findWinner() {
+        return decideWinner(false);
+    }
+
+    private Player decideWinner(boolean record) {
+        Player currentPlayer = gameState.getCurrentPlayer();
+        Player opponent = (currentPlayer == gameState.getPlayer1()) ?
+                gameState.getPlayer2() : gameState.getPlayer1();
+
+        // Check if opponent has stones
+        if (!hasStones(opponent)) {
+            // If opponent has no stones, current player wins
+            return declareWinner(currentPlayer, "Opponent has no stones left.", record);
+        }
+
+        // Check if current player has legal moves
+        boolean currentPlayerHasLegalMoves = hasLegalMoves(currentPlayer);
+        boolean opponentHasLegalMoves = hasLegalMoves(opponent);
+
+        if (!currentPlayerHasLegalMoves && !opponentHasLegalMoves) {
+            // If both players have no legal moves, game is over, player with more stones wins
+            int currentPlayerStones = countStones(currentPlayer);
+            int opponentStones = countStones(opponent);
+
+            if (currentPlayerStones >= opponentStones) {
+                // If current player has more or equal stones, current player wins
+                return declareWinner(currentPlayer, "Has more or equal stones.", record);
+            }
+            // Otherwise opponent wins
+            return declareWinner(opponent, "Has more stones.", record);
+        } else if (!currentPlayerHasLegalMoves) {
+            // Current player has no legal moves, opponent wins
+            return declareWinner(opponent, "Current player has no legal moves.", record);
+        } else if (!opponentHasLegalMoves && !gameState.isCaptureMode()) {
+            // Opponent has no legal moves, current player wins
+            // Note: Only end game immediately if not in continuous capture mode
+            return declareWinner(currentPlayer, "Opponent has no legal moves.", record);
+        }
+        return null;
+    }
+
+    private Player declareWinner(Player winner, String reason, boolean record) {
+        if (record) {
+            // The winner must be known before game over listeners are notified
+            gameState.setWinner(winner);
+            gameState.setGameOver(true);
+            traceWinReason(winner, reason);
+        }
+        return winner;
+    }
+
+    private void traceWinReason(Player winner, String reason) {
+        if (Trace.isEnabled(TraceLevel.INFO)) {
+            Trace.message(TraceLevel.INFO, winner.getName() + " wins! " + reason);
+        }
+    }
+
+    /**
+     * Count player's stones
+     * @param player The player to count stones for
+     * @return Number of stones
+     */
+    private int countStones(Player player) {
+        return board.countStones(player.getColor());
+    }
+}
\ No newline at end of file
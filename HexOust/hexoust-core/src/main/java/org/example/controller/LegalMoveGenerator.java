@@ -0,0 +1,134 @@
+package org.example.controller;
+
+import org.example.model.Board;
+import org.example.model.GroupManager;
+import org.example.model.HexTopology;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+import java.util.Arrays;
+
+/**
+ * Fills a LegalMoveList from the tracked move types without analysing each CP move
+ * separately. One pass over the player's stones records, for every own group, the set
+ * of opponent groups it touches as a bitset over group ids. A CP move then merges the
+ * own groups next to it, at most six, and sums the opponent groups in the union of
+ * their sets that are smaller than the merged group, with no walk over group members.
+ */
+class LegalMoveGenerator {
+    private final Board board;
+    private final HexTopology topology;
+    private final GroupManager groupManager;
+    private final int words;
+
+    // opponentGroups[root * words ...] is the set of opponent group ids touching own group root
+    private final long[] opponentGroups;
+    private final int[] rowStamp;
+    private int epoch = 0;
+    private final long[] union;
+    private final int[] ownRoots = new int[6];
+
+    LegalMoveGenerator(Board board) {
+        this.board = board;
+        this.topology = board.getTopology();
+        this.groupManager = board.getGroupManager();
+        int cellCount = topology.getCellCount();
+        this.words = (cellCount + 63) >>> 6;
+        this.opponentGroups = new long[cellCount * words];
+        this.rowStamp = new int[cellCount];
+        this.union = new long[words];
+    }
+
+    /**
+     * @param player Player to generate moves for
+     * @param types Move types of the player from LegalMoveTracker
+     * @param out List to fill, already reset
+     */
+    void generate(Player player, byte[] types, LegalMoveList out) {
+        PlayerColor color = player.getColor();
+        PlayerColor opponent = color.opponent();
+        boolean anyCp = false;
+        for (byte type : types) {
+            anyCp |= type == LegalMoveTracker.CP;
+        }
+        if (anyCp) {
+            collectOpponentGroups(color, opponent);
+        }
+
+        for (int index = 0; index < types.length; index++) {
+            if (types[index] == LegalMoveTracker.NCP) {
+                out.add(index, MoveAnalysis.MoveType.NCP, 1, 0);
+            } else if (types[index] == LegalMoveTracker.CP) {
+                addCp(index, color, opponent, out);
+            }
+        }
+    }
+
+    private void collectOpponentGroups(PlayerColor color, PlayerColor opponent) {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(rowStamp, 0);
+            epoch = 1;
+        }
+        for (int index = 0; index < rowStamp.length; index++) {
+            if (board.getColorAt(index) != color) {
+                continue;
+            }
+            int row = groupManager.getGroupId(index) * words;
+            if (rowStamp[row / words] != epoch) {
+                rowStamp[row / words] = epoch;
+                Arrays.fill(opponentGroups, row, row + words, 0);
+            }
+            for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+                int adjacent = topology.getNeighbour(k);
+                if (board.getColorAt(adjacent) == opponent) {
+                    int group = groupManager.getGroupId(adjacent);
+                    opponentGroups[row + (group >>> 6)] |= 1L << group;
+                }
+            }
+        }
+    }
+
+    private void addCp(int index, PlayerColor color, PlayerColor opponent, LegalMoveList out) {
+        Arrays.fill(union, 0);
+        int rootCount = 0;
+        int mergedSize = 1;
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacent = topology.getNeighbour(k);
+            PlayerColor adjacentColor = board.getColorAt(adjacent);
+            if (adjacentColor == opponent) {
+                int group = groupManager.getGroupId(adjacent);
+                union[group >>> 6] |= 1L << group;
+            } else if (adjacentColor == color) {
+                int root = groupManager.getGroupId(adjacent);
+                if (!contains(ownRoots, rootCount, root)) {
+                    ownRoots[rootCount++] = root;
+                    mergedSize += groupManager.getGroupSize(root);
+                    for (int w = 0; w < words; w++) {
+                        union[w] |= opponentGroups[root * words + w];
+                    }
+                }
+            }
+        }
+
+        int captured = 0;
+        for (int w = 0; w < words; w++) {
+            for (long bits = union[w]; bits != 0; bits &= bits - 1) {
+                int group = (w << 6) + Long.numberOfTrailingZeros(bits);
+                int groupSize = groupManager.getGroupSize(group);
+                if (groupSize < mergedSize) {
+                    captured += groupSize;
+                }
+            }
+        }
+        out.add(index, MoveAnalysis.MoveType.CP, mergedSize, captured);
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
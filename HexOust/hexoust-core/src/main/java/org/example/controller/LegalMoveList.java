@@ -0,0 +1,115 @@
+package org.example.controller;
+
+import org.example.model.Player;
+
+import java.util.Arrays;
+
+/**
+ * All legal moves of one player in a position, filled by GameController.generateLegalMoves
+ * in one pass over the board. Moves are in index order; each one carries its kind, the size
+ * of the group the placed stone would belong to and the number of opponent stones it would
+ * capture. A bitset over the cells answers membership in constant time.
+ * <p>
+ * A list can be refilled any number of times for boards up to the size it was created for.
+ */
+public class LegalMoveList {
+    private static final MoveAnalysis.MoveType[] TYPES = MoveAnalysis.MoveType.values();
+
+    private Player player;
+    private final int[] moves;
+    private final byte[] types;
+    private final int[] mergedGroupSizes;
+    private final int[] capturedCounts;
+    private final long[] bits;
+    private int size;
+
+    /**
+     * Create an empty list
+     * @param cellCount Number of cells of the largest board it will be used on
+     */
+    public LegalMoveList(int cellCount) {
+        this.moves = new int[cellCount];
+        this.types = new byte[cellCount];
+        this.mergedGroupSizes = new int[cellCount];
+        this.capturedCounts = new int[cellCount];
+        this.bits = new long[(cellCount + 63) >>> 6];
+    }
+
+    void reset(Player player) {
+        this.player = player;
+        Arrays.fill(bits, 0);
+        size = 0;
+    }
+
+    void add(int index, MoveAnalysis.MoveType type, int mergedGroupSize, int capturedCount) {
+        moves[size] = index;
+        types[size] = (byte) type.ordinal();
+        mergedGroupSizes[size] = mergedGroupSize;
+        capturedCounts[size] = capturedCount;
+        bits[index >>> 6] |= 1L << index;
+        size++;
+    }
+
+    /**
+     * Get the player the moves were generated for
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether a position is one of the legal moves
+     */
+    public boolean contains(int index) {
+        return index >= 0 && (index >>> 6) < bits.length && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Get a move's position index
+     * @param i Move number, from 0 to size() - 1
+     */
+    public int getMove(int i) {
+        return moves[i];
+    }
+
+    /**
+     * @return NCP or CP
+     */
+    public MoveAnalysis.MoveType getType(int i) {
+        return TYPES[types[i]];
+    }
+
+    /**
+     * Get the size of the group containing the placed stone after the move
+     */
+    public int getMergedGroupSize(int i) {
+        return mergedGroupSizes[i];
+    }
+
+    /**
+     * Get the number of opponent stones the move removes; analyzeMove lists them
+     */
+    public int getCapturedCount(int i) {
+        return capturedCounts[i];
+    }
+
+    public boolean isCapture(int i) {
+        return capturedCounts[i] > 0;
+    }
+
+    /**
+     * Get the legal moves as a bitset over the cells: bit (index % 64) of word index / 64
+     * @return A copy of the bitset
+     */
+    public long[] toBitSet() {
+        return bits.clone();
+    }
+}
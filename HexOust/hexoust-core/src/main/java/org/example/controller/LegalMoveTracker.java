@@ -0,0 +1,197 @@
+package org.example.controller;
+
+import org.example.model.Board;
+import org.example.model.GroupManager;
+import org.example.model.HexTopology;
+import org.example.model.PlayerColor;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the legal NCP and CP moves of both players up to date as stones change.
+ * Changes only mark cells dirty; the next query re-classifies the empty cells whose
+ * legality can depend on them: the changed cells, their neighbours, and the liberties
+ * of every group that contains or touches a changed cell.
+ */
+class LegalMoveTracker implements Board.StoneChangeListener {
+    static final byte NONE = 0;
+    static final byte NCP = 1;
+    static final byte CP = 2;
+
+    private static final PlayerColor[] COLORS = PlayerColor.values();
+
+    private final Board board;
+    private final HexTopology topology;
+    private final GroupManager groupManager;
+
+    // moveTypes[color][index] is NONE, NCP or CP
+    private final byte[][] moveTypes;
+    private final int[] legalCounts;
+
+    private final int[] dirty;
+    private final boolean[] isDirty;
+    private int dirtyCount = 0;
+
+    // Epoch stamps so each cell and group is handled once per refresh
+    private final int[] cellStamp;
+    private final int[] groupStamp;
+    private int epoch = 0;
+    private final int[] affected;
+    private final int[] groupBuffer;
+
+    LegalMoveTracker(Board board) {
+        this.board = board;
+        this.topology = board.getTopology();
+        this.groupManager = board.getGroupManager();
+
+        int cellCount = topology.getCellCount();
+        int colorCount = COLORS.length;
+        this.moveTypes = new byte[colorCount][cellCount];
+        this.legalCounts = new int[colorCount];
+        this.dirty = new int[cellCount];
+        this.isDirty = new boolean[cellCount];
+        this.cellStamp = new int[cellCount];
+        this.groupStamp = new int[cellCount];
+        this.affected = new int[cellCount];
+        this.groupBuffer = new int[cellCount];
+
+        for (int index = 0; index < cellCount; index++) {
+            onStoneChanged(index);
+        }
+        board.addStoneChangeListener(this);
+    }
+
+    @Override
+    public void onStoneChanged(int index) {
+        if (!isDirty[index]) {
+            isDirty[index] = true;
+            dirty[dirtyCount++] = index;
+        }
+    }
+
+    boolean hasLegalMoves(PlayerColor color) {
+        refresh();
+        return legalCounts[color.ordinal()] > 0;
+    }
+
+    int countLegalMoves(PlayerColor color) {
+        refresh();
+        return legalCounts[color.ordinal()];
+    }
+
+    /**
+     * Get the kind of placement a player may make at a position
+     * @return NONE, NCP or CP
+     */
+    byte getMoveType(int index, PlayerColor color) {
+        refresh();
+        return moveTypes[color.ordinal()][index];
+    }
+
+    /**
+     * Get the kinds of placement a player may make at every position
+     * @return Array indexed by position, valid until the board changes; not to be modified
+     */
+    byte[] getMoveTypes(PlayerColor color) {
+        refresh();
+        return moveTypes[color.ordinal()];
+    }
+
+    boolean isLegal(int index, PlayerColor color) {
+        return getMoveType(index, color) != NONE;
+    }
+
+    private void refresh() {
+        if (dirtyCount == 0) {
+            return;
+        }
+
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(cellStamp, 0);
+            Arrays.fill(groupStamp, 0);
+            epoch = 1;
+        }
+        int affectedCount = 0;
+        while (dirtyCount > 0) {
+            int changed = dirty[--dirtyCount];
+            isDirty[changed] = false;
+
+            affectedCount = markAffected(changed, affectedCount);
+            for (int k = topology.getNeighbourStart(changed); k < topology.getNeighbourEnd(changed); k++) {
+                int adjacent = topology.getNeighbour(k);
+                affectedCount = markAffected(adjacent, affectedCount);
+                affectedCount = markGroupLiberties(adjacent, affectedCount);
+            }
+            affectedCount = markGroupLiberties(changed, affectedCount);
+        }
+
+        for (int i = 0; i < affectedCount; i++) {
+            int index = affected[i];
+            for (PlayerColor color : COLORS) {
+                byte previous = moveTypes[color.ordinal()][index];
+                byte current = classify(index, color);
+                if (previous != current) {
+                    moveTypes[color.ordinal()][index] = current;
+                    if (previous == NONE) {
+                        legalCounts[color.ordinal()]++;
+                    } else if (current == NONE) {
+                        legalCounts[color.ordinal()]--;
+                    }
+                }
+            }
+        }
+    }
+
+    private int markAffected(int index, int affectedCount) {
+        if (cellStamp[index] != epoch) {
+            cellStamp[index] = epoch;
+            affected[affectedCount++] = index;
+        }
+        return affectedCount;
+    }
+
+    /**
+     * Mark the empty neighbours of the group containing a stone
+     */
+    private int markGroupLiberties(int index, int affectedCount) {
+        int groupId = groupManager.getGroupId(index);
+        if (groupId < 0 || groupStamp[groupId] == epoch) {
+            return affectedCount;
+        }
+        groupStamp[groupId] = epoch;
+
+        int size = groupManager.collectGroup(index, groupBuffer);
+        for (int i = 0; i < size; i++) {
+            int member = groupBuffer[i];
+            for (int k = topology.getNeighbourStart(member); k < topology.getNeighbourEnd(member); k++) {
+                int adjacent = topology.getNeighbour(k);
+                if (board.getColorAt(adjacent) == null) {
+                    affectedCount = markAffected(adjacent, affectedCount);
+                }
+            }
+        }
+        return affectedCount;
+    }
+
+    /**
+     * Classify a position the same way as MoveValidator's NCP and CP rules
+     */
+    private byte classify(int index, PlayerColor color) {
+        if (board.getColorAt(index) != null) {
+            return NONE;
+        }
+        if (!board.hasAdjacentStone(index, color)) {
+            return NCP;
+        }
+        if (board.hasAdjacentStone(index, color.opponent())) {
+            return CP;
+        }
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacent = topology.getNeighbour(k);
+            if (board.getColorAt(adjacent) == color && groupManager.isAdjacentToOpponent(adjacent)) {
+                return CP;
+            }
+        }
+        return NONE;
+    }
+}
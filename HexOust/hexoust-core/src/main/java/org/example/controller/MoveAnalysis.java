@@ -0,0 +1,185 @@
+package org.example.controller;
+
+import org.example.model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of analysing one placement with MoveValidator.analyze: the kind of move,
+ * the size of the group the placed stone would belong to and the opponent groups
+ * the placement would capture. GameController applies it directly, so a move is
+ * validated and executed from a single pass over the board.
+ * <p>
+ * An analysis can be reused for any number of moves on boards up to the size it was
+ * created for; captured stones are kept in a flat int buffer with one end offset per group.
+ */
+public class MoveAnalysis {
+
+    public enum MoveType {
+        /** The placement breaks both the NCP and the CP rule */
+        ILLEGAL,
+        /** Non-capturing placement: no own stone adjacent */
+        NCP,
+        /** Capturing placement: joins own stones and the new group touches the opponent */
+        CP
+    }
+
+    private Player player;
+    private int index;
+    private MoveType type = MoveType.ILLEGAL;
+    private int mergedGroupSize;
+    private int adjacentOpponentGroupCount;
+
+    private final int[] capturedPositions;
+    private int capturedCount;
+    private final int[] capturedGroupEnds;
+    private int capturedGroupCount;
+
+    /**
+     * Create an empty analysis
+     * @param cellCount Number of cells of the largest board it will be used on
+     */
+    public MoveAnalysis(int cellCount) {
+        this.capturedPositions = new int[cellCount];
+        this.capturedGroupEnds = new int[cellCount];
+    }
+
+    void reset(Player player, int index) {
+        this.player = player;
+        this.index = index;
+        this.type = MoveType.ILLEGAL;
+        this.mergedGroupSize = 0;
+        this.adjacentOpponentGroupCount = 0;
+        this.capturedCount = 0;
+        this.capturedGroupCount = 0;
+    }
+
+    void setType(MoveType type) {
+        this.type = type;
+    }
+
+    void setMergedGroupSize(int mergedGroupSize) {
+        this.mergedGroupSize = mergedGroupSize;
+    }
+
+    void setAdjacentOpponentGroupCount(int adjacentOpponentGroupCount) {
+        this.adjacentOpponentGroupCount = adjacentOpponentGroupCount;
+    }
+
+    /**
+     * Buffer that captured groups are collected into, starting at getCapturedCount()
+     */
+    int[] capturedBuffer() {
+        return capturedPositions;
+    }
+
+    /**
+     * Close the captured group that was collected up to the given end offset
+     */
+    void endCapturedGroup(int end) {
+        capturedCount = end;
+        capturedGroupEnds[capturedGroupCount++] = end;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public MoveType getType() {
+        return type;
+    }
+
+    public boolean isLegal() {
+        return type != MoveType.ILLEGAL;
+    }
+
+    /**
+     * Check whether applying the move removes opponent stones
+     */
+    public boolean isCapture() {
+        return capturedCount > 0;
+    }
+
+    /**
+     * Get the size of the group containing the placed stone after placement
+     */
+    public int getMergedGroupSize() {
+        return mergedGroupSize;
+    }
+
+    /**
+     * Get the number of distinct opponent groups adjacent to the new group
+     */
+    public int getAdjacentOpponentGroupCount() {
+        return adjacentOpponentGroupCount;
+    }
+
+    /**
+     * Get the number of stones the move removes
+     */
+    public int getCapturedCount() {
+        return capturedCount;
+    }
+
+    /**
+     * Get a removed position
+     * @param i Position in the capture list, from 0 to getCapturedCount() - 1
+     */
+    public int getCapturedPosition(int i) {
+        return capturedPositions[i];
+    }
+
+    /**
+     * Get the number of opponent groups the move removes
+     */
+    public int getCapturedGroupCount() {
+        return capturedGroupCount;
+    }
+
+    /**
+     * Get the first capture list entry of a captured group
+     */
+    public int getCapturedGroupStart(int group) {
+        return group == 0 ? 0 : capturedGroupEnds[group - 1];
+    }
+
+    /**
+     * Get the capture list entry just past a captured group
+     */
+    public int getCapturedGroupEnd(int group) {
+        return capturedGroupEnds[group];
+    }
+
+    /**
+     * Get the opponent groups smaller than the new group, which the move removes.
+     * Builds new lists; use the indexed getters on hot paths.
+     */
+    public List<List<Integer>> getCapturedGroups() {
+        List<List<Integer>> capturedGroups = new ArrayList<>();
+        for (int group = 0; group < capturedGroupCount; group++) {
+            List<Integer> positions = new ArrayList<>();
+            for (int i = getCapturedGroupStart(group); i < getCapturedGroupEnd(group); i++) {
+                positions.add(capturedPositions[i]);
+            }
+            capturedGroups.add(positions);
+        }
+        return capturedGroups;
+    }
+
+    /**
+     * Get all positions removed by the move.
+     * Builds a new list; use the indexed getters on hot paths.
+     */
+    public List<Integer> getCapturedPositions() {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < capturedCount; i++) {
+            positions.add(capturedPositions[i]);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,280 @@
+package org.example.controller;
+
+import org.example.model.Board;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+import org.example.model.GroupManager;
+import org.example.model.HexTopology;
+import org.example.trace.Trace;
+import org.example.trace.TraceLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks placements against the NCP and CP rules and works out captures.
+ * Validation, analyze(Player, int, MoveAnalysis) and collectCaptures work on int buffers
+ * and epoch-stamped arrays owned by the validator, so they do not allocate. A validator
+ * is therefore not thread-safe; give each thread its own.
+ */
+public class MoveValidator {
+    private final Board board;
+    private final HexTopology topology;
+    private final GroupManager groupManager;
+
+    // Stones of the group formed by the placement being analysed
+    private final int[] newGroup;
+    // groupStamp[groupId] == epoch marks a group already handled in the current analysis
+    private final int[] groupStamp;
+    private int epoch = 0;
+    private final MoveAnalysis scratch;
+
+    public MoveValidator(Board board) {
+        this.board = board;
+        this.topology = board.getTopology();
+        this.groupManager = board.getGroupManager();
+        this.newGroup = new int[topology.getCellCount()];
+        this.groupStamp = new int[topology.getCellCount()];
+        this.scratch = new MoveAnalysis(topology.getCellCount());
+    }
+
+    /**
+     * Validate if the index is within the valid range
+     */
+    public boolean validateMove(int index) {
+        // Validate if the index is within the valid range (total of 127 cells on the standard board)
+        return topology.isValidIndex(index);
+    }
+
+    /**
+     * Create an analysis buffer sized for this validator's board
+     */
+    public MoveAnalysis newAnalysis() {
+        return new MoveAnalysis(topology.getCellCount());
+    }
+
+    /**
+     * Analyse a placement in one pass: decide between NCP, CP and illegal, and for a CP
+     * compute the merged group size and the opponent groups it would capture.
+     * The board is not modified.
+     */
+    public MoveAnalysis analyze(Player player, int index) {
+        return analyze(player, index, newAnalysis());
+    }
+
+    /**
+     * Analyse a placement into a reusable analysis without allocating
+     * @param player Player placing the stone
+     * @param index Position index
+     * @param out Analysis to overwrite
+     * @return out
+     */
+    public MoveAnalysis analyze(Player player, int index, MoveAnalysis out) {
+        out.reset(player, index);
+
+        // The position must be valid and empty
+        if (!validateMove(index) || board.getColorAt(index) != null) {
+            return out;
+        }
+
+        PlayerColor playerColor = player.getColor();
+        if (!board.hasAdjacentStone(index, playerColor)) {
+            // NCP: the stone stands alone; captures only happen with CP
+            out.setType(MoveAnalysis.MoveType.NCP);
+            out.setMergedGroupSize(1);
+            return out;
+        }
+
+        // Collect the groups the placed stone joins
+        nextEpoch();
+        int newGroupSize = 0;
+        newGroup[newGroupSize++] = index;
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacentIndex = topology.getNeighbour(k);
+            if (board.getColorAt(adjacentIndex) == playerColor && markGroup(adjacentIndex)) {
+                newGroupSize = groupManager.collectGroup(adjacentIndex, newGroup, newGroupSize);
+            }
+        }
+
+        scanOpponentGroups(newGroupSize, playerColor.opponent(), out);
+        if (out.getAdjacentOpponentGroupCount() > 0) {
+            out.setType(MoveAnalysis.MoveType.CP);
+        }
+        return out;
+    }
+
+    /**
+     * Validate NCP rule: A stone cannot be adjacent to another stone of the same color,
+     * it can only be adjacent to opponent's stones or placed independently
+     */
+    public boolean validateNonCapturingPlacement(Player currentPlayer, int index) {
+        // First check if the position is empty
+        if (!validateMove(index) || board.getColorAt(index) != null) {
+            return false;
+        }
+
+        if (Trace.isEnabled(TraceLevel.DEBUG)) {
+            Trace.message(TraceLevel.DEBUG, "Checking NCP rule: index " + index + ", player color: " + currentPlayer.getColor());
+        }
+
+        // Check if there are any same-colored stones adjacent
+        if (board.hasAdjacentStone(index, currentPlayer.getColor())) {
+            Trace.message(TraceLevel.DEBUG, "Found adjacent stone with the same color as player, NCP rule validation failed");
+            return false; // If there's a same-colored stone adjacent, it doesn't comply with NCP rule
+        }
+
+        Trace.message(TraceLevel.DEBUG, "NCP rule validation passed");
+        // If there are no same-colored stones adjacent, it complies with NCP rule
+        return true;
+    }
+
+    /**
+     * Validate CP rule: Stone must be adjacent to player's own stones, forming a larger group,
+     * and the new group must be adjacent to at least one opponent's stone
+     */
+    public boolean validateCapturingPlacement(Player player, int index) {
+        if (Trace.isEnabled(TraceLevel.DEBUG)) {
+            Trace.message(TraceLevel.DEBUG, "Validating CP rule: position " + index);
+        }
+
+        // First check if the position is empty
+        if (!validateMove(index) || board.getColorAt(index) != null) {
+            Trace.message(TraceLevel.DEBUG, "Position is null or already occupied");
+            return false;
+        }
+
+        // Check if there are any player's stones adjacent
+        PlayerColor playerColor = player.getColor();
+        if (!board.hasAdjacentStone(index, playerColor)) {
+            Trace.message(TraceLevel.DEBUG, "No stones of current player adjacent");
+            return false;
+        }
+
+        // The new group is adjacent to an opponent's stone if the placed stone
+        // or any of the groups it joins already touches one
+        if (!board.hasAdjacentStone(index, playerColor.opponent())
+                && !isAnyAdjacentGroupTouchingOpponent(index, playerColor)) {
+            Trace.message(TraceLevel.DEBUG, "New group is not adjacent to any opponent stones");
+            return false;
+        }
+
+        Trace.message(TraceLevel.DEBUG, "CP rule validation passed");
+        return true;
+    }
+
+    /**
+     * Execute capture logic
+     */
+    public List<Integer> executeCapture(Player player, int index) {
+        int count = collectCaptures(player, index, null);
+        List<Integer> capturedPositions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            capturedPositions.add(scratch.getCapturedPosition(i));
+        }
+        return capturedPositions;
+    }
+
+    /**
+     * Work out the opponent stones captured by a placement, either before the stone is
+     * placed or after it has been placed and merged
+     * @param player Player placing the stone
+     * @param index Position index
+     * @param buffer Receives the captured positions, or null to only count them
+     * @return Number of captured positions
+     */
+    public int collectCaptures(Player player, int index, int[] buffer) {
+        PlayerColor playerColor = player.getColor();
+        if (validateMove(index) && board.getColorAt(index) == playerColor) {
+            // Already placed: the new group is the group containing the stone
+            scratch.reset(player, index);
+            nextEpoch();
+            markGroup(index);
+            int newGroupSize = groupManager.collectGroup(index, newGroup, 0);
+            scanOpponentGroups(newGroupSize, playerColor.opponent(), scratch);
+        } else {
+            analyze(player, index, scratch);
+        }
+
+        int count = scratch.getCapturedCount();
+        if (buffer != null) {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = scratch.getCapturedPosition(i);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the distinct opponent groups touching newGroup[0..newGroupSize) and collect
+     * the ones smaller than it. Groups marked in the current epoch are skipped.
+     */
+    private void scanOpponentGroups(int newGroupSize, PlayerColor opponentColor, MoveAnalysis out) {
+        int adjacentOpponentGroups = 0;
+        int capturedEnd = out.getCapturedCount();
+        for (int i = 0; i < newGroupSize; i++) {
+            int position = newGroup[i];
+            for (int k = topology.getNeighbourStart(position); k < topology.getNeighbourEnd(position); k++) {
+                int adjacentIndex = topology.getNeighbour(k);
+                if (board.getColorAt(adjacentIndex) == opponentColor && markGroup(adjacentIndex)) {
+                    adjacentOpponentGroups++;
+                    if (newGroupSize > groupManager.getGroupSize(adjacentIndex)) {
+                        capturedEnd = groupManager.collectGroup(adjacentIndex, out.capturedBuffer(), capturedEnd);
+                        out.endCapturedGroup(capturedEnd);
+                    }
+                }
+            }
+        }
+        out.setMergedGroupSize(newGroupSize);
+        out.setAdjacentOpponentGroupCount(adjacentOpponentGroups);
+    }
+
+    /**
+     * Check whether any own group next to a position touches an opponent stone
+     */
+    private boolean isAnyAdjacentGroupTouchingOpponent(int index, PlayerColor playerColor) {
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacentIndex = topology.getNeighbour(k);
+            if (board.getColorAt(adjacentIndex) == playerColor && groupManager.isAdjacentToOpponent(adjacentIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mark the group containing a stone as handled in the current epoch
+     * @return true if the group had not been marked yet
+     */
+    private boolean markGroup(int index) {
+        int groupId = groupManager.getGroupId(index);
+        if (groupStamp[groupId] == epoch) {
+            return false;
+        }
+        groupStamp[groupId] = epoch;
+        return true;
+    }
+
+    private void nextEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(groupStamp, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Get all adjacent positions for a specified position
+     */
+    public List<Integer> getAdjacentPositions(int index) {
+        List<Integer> adjacentPositions = new ArrayList<>();
+        if (!topology.isValidIndex(index)) {
+            return adjacentPositions;
+        }
+
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            adjacentPositions.add(topology.getNeighbour(k));
+        }
+
+        return adjacentPositions;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+package org.example.model;
+
+/**
+ * Stone occupancy stored as two 128-bit masks, one per player color.
+ * Bit {@code i} of a mask (low word for 0-63, high word for 64-127) stands for cell {@code i}
+ * of the topology, and every cell has a precomputed mask of its neighbours, so group
+ * flood fill, adjacency checks and stone counting are AND/OR/popcount loops.
+ */
+public final class BitBoard {
+    public static final int MAX_CELLS = 128;
+
+    private final HexTopology topology;
+    private final long[] neighbourLo;
+    private final long[] neighbourHi;
+
+    private long redLo;
+    private long redHi;
+    private long blueLo;
+    private long blueHi;
+
+    public BitBoard(HexTopology topology) {
+        if (topology.getCellCount() > MAX_CELLS) {
+            throw new IllegalArgumentException("BitBoard supports at most " + MAX_CELLS + " cells, got " + topology.getCellCount());
+        }
+        this.topology = topology;
+        this.neighbourLo = new long[topology.getCellCount()];
+        this.neighbourHi = new long[topology.getCellCount()];
+
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+                int neighbour = topology.getNeighbour(k);
+                if (neighbour < 64) {
+                    neighbourLo[index] |= 1L << neighbour;
+                } else {
+                    neighbourHi[index] |= 1L << (neighbour - 64);
+                }
+            }
+        }
+    }
+
+    private BitBoard(BitBoard source) {
+        this.topology = source.topology;
+        this.neighbourLo = source.neighbourLo;
+        this.neighbourHi = source.neighbourHi;
+        this.redLo = source.redLo;
+        this.redHi = source.redHi;
+        this.blueLo = source.blueLo;
+        this.blueHi = source.blueHi;
+    }
+
+    /**
+     * Create an independent copy sharing the immutable neighbour tables
+     * @return Copy of this board
+     */
+    public BitBoard copy() {
+        return new BitBoard(this);
+    }
+
+    public HexTopology getTopology() {
+        return topology;
+    }
+
+    public boolean isOccupied(int index) {
+        if (index < 64) {
+            return ((redLo | blueLo) & (1L << index)) != 0;
+        }
+        return ((redHi | blueHi) & (1L << (index - 64))) != 0;
+    }
+
+    /**
+     * Get the color of the stone at a position
+     * @param index Position index
+     * @return Stone color, or null if the position is empty
+     */
+    public PlayerColor getColor(int index) {
+        long lo = index < 64 ? 1L << index : 0;
+        long hi = index < 64 ? 0 : 1L << (index - 64);
+        if ((redLo & lo | redHi & hi) != 0) {
+            return PlayerColor.RED;
+        }
+        if ((blueLo & lo | blueHi & hi) != 0) {
+            return PlayerColor.BLUE;
+        }
+        return null;
+    }
+
+    public void set(int index, PlayerColor color) {
+        clear(index);
+        if (index < 64) {
+            long bit = 1L << index;
+            if (color == PlayerColor.RED) {
+                redLo |= bit;
+            } else {
+                blueLo |= bit;
+            }
+        } else {
+            long bit = 1L << (index - 64);
+            if (color == PlayerColor.RED) {
+                redHi |= bit;
+            } else {
+                blueHi |= bit;
+            }
+        }
+    }
+
+    public void clear(int index) {
+        if (index < 64) {
+            long mask = ~(1L << index);
+            redLo &= mask;
+            blueLo &= mask;
+        } else {
+            long mask = ~(1L << (index - 64));
+            redHi &= mask;
+            blueHi &= mask;
+        }
+    }
+
+    public long getStonesLo(PlayerColor color) {
+        return color == PlayerColor.RED ? redLo : blueLo;
+    }
+
+    public long getStonesHi(PlayerColor color) {
+        return color == PlayerColor.RED ? redHi : blueHi;
+    }
+
+    public long getNeighbourMaskLo(int index) {
+        return neighbourLo[index];
+    }
+
+    public long getNeighbourMaskHi(int index) {
+        return neighbourHi[index];
+    }
+
+    public int countStones(PlayerColor color) {
+        return Long.bitCount(getStonesLo(color)) + Long.bitCount(getStonesHi(color));
+    }
+
+    /**
+     * Check whether a position touches at least one stone of the given color
+     */
+    public boolean hasAdjacentStone(int index, PlayerColor color) {
+        return ((neighbourLo[index] & getStonesLo(color)) | (neighbourHi[index] & getStonesHi(color))) != 0;
+    }
+
+    /**
+     * Flood fill the group containing a stone
+     * @param index Position of a stone
+     * @param out Receives the group mask as {low word, high word}; both are zero if the position is empty
+     */
+    public void floodGroup(int index, long[] out) {
+        PlayerColor color = getColor(index);
+        if (color == null) {
+            out[0] = 0;
+            out[1] = 0;
+            return;
+        }
+
+        long ownLo = getStonesLo(color);
+        long ownHi = getStonesHi(color);
+        long groupLo = index < 64 ? 1L << index : 0;
+        long groupHi = index < 64 ? 0 : 1L << (index - 64);
+        long frontierLo = groupLo;
+        long frontierHi = groupHi;
+
+        while ((frontierLo | frontierHi) != 0) {
+            long reachLo = 0;
+            long reachHi = 0;
+            while (frontierLo != 0) {
+                int bit = Long.numberOfTrailingZeros(frontierLo);
+                frontierLo &= frontierLo - 1;
+                reachLo |= neighbourLo[bit];
+                reachHi |= neighbourHi[bit];
+            }
+            while (frontierHi != 0) {
+                int bit = Long.numberOfTrailingZeros(frontierHi) + 64;
+                frontierHi &= frontierHi - 1;
+                reachLo |= neighbourLo[bit];
+                reachHi |= neighbourHi[bit];
+            }
+            frontierLo = reachLo & ownLo & ~groupLo;
+            frontierHi = reachHi & ownHi & ~groupHi;
+            groupLo |= frontierLo;
+            groupHi |= frontierHi;
+        }
+
+        out[0] = groupLo;
+        out[1] = groupHi;
+    }
+
+    /**
+     * Compute the cells adjacent to any cell of a mask (the mask itself is not included)
+     * @param lo Low word of the mask
+     * @param hi High word of the mask
+     * @param out Receives the neighbourhood as {low word, high word}
+     */
+    public void neighbourhood(long lo, long hi, long[] out) {
+        long reachLo = 0;
+        long reachHi = 0;
+        long restLo = lo;
+        long restHi = hi;
+        while (restLo != 0) {
+            int bit = Long.numberOfTrailingZeros(restLo);
+            restLo &= restLo - 1;
+            reachLo |= neighbourLo[bit];
+            reachHi |= neighbourHi[bit];
+        }
+        while (restHi != 0) {
+            int bit = Long.numberOfTrailingZeros(restHi) + 64;
+            restHi &= restHi - 1;
+            reachLo |= neighbourLo[bit];
+            reachHi |= neighbourHi[bit];
+        }
+        out[0] = reachLo & ~lo;
+        out[1] = reachHi & ~hi;
+    }
+}
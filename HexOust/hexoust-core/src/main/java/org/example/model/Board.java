@@ -0,0 +1,275 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Board {
+    private final HexTopology topology;
+    private final Cell[] cells;
+    private final BoardRepresentation representation;
+    private final BitBoard bitBoard;
+    private final GroupManager groupManager;
+    private final int[] stoneCounts = new int[PlayerColor.values().length];
+    // Zobrist hash of the stones, updated on every placement and removal
+    private long hash = 0;
+    // Hash of the stones under each board symmetry, null if the board has none
+    private final Symmetry symmetry;
+    private final long[] symmetricHashes;
+
+    public interface StoneChangeListener {
+        void onStoneChanged(int index);
+    }
+
+    private final List<StoneChangeListener> stoneListeners = new ArrayList<>();
+
+    /**
+     * Receives one batched event per move played through GameController.makeMove.
+     * Moves that search applies and undoes are not reported.
+     */
+    public interface BoardChangeListener {
+        void onBoardChanged(BoardChange change);
+    }
+
+    private final List<BoardChangeListener> changeListeners = new ArrayList<>();
+
+    public Board() {
+        this(HexTopology.standard(), BoardRepresentation.CELLS);
+    }
+
+    public Board(BoardRepresentation representation) {
+        this(HexTopology.standard(), representation);
+    }
+
+    public Board(HexTopology topology) {
+        this(topology, BoardRepresentation.CELLS);
+    }
+
+    public Board(HexTopology topology, BoardRepresentation representation) {
+        this.topology = topology;
+        this.cells = new Cell[topology.getCellCount()];
+        this.representation = representation;
+        this.bitBoard = representation == BoardRepresentation.BITBOARD ? new BitBoard(topology) : null;
+        this.symmetry = Symmetry.supports(topology)
+                ? (topology == HexTopology.standard() ? Symmetry.standard() : new Symmetry(topology))
+                : null;
+        this.symmetricHashes = symmetry != null ? new long[Symmetry.TRANSFORMS] : null;
+        initializeBoard();
+        this.groupManager = new GroupManager(this);
+    }
+
+    private void initializeBoard() {
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = new Cell(topology.getRow(index), topology.getCol(index));
+        }
+    }
+
+    public HexTopology getTopology() {
+        return topology;
+    }
+
+    public BoardRepresentation getRepresentation() {
+        return representation;
+    }
+
+    /**
+     * Get the bitboard backing this board
+     * @return The bitboard, or null if the board uses the CELLS representation
+     */
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    /**
+     * Get the group tracker kept up to date by this board
+     */
+    public GroupManager getGroupManager() {
+        return groupManager;
+    }
+
+    public void addStoneChangeListener(StoneChangeListener listener) {
+        stoneListeners.add(listener);
+    }
+
+    private void notifyStoneListeners(int index) {
+        for (int i = 0; i < stoneListeners.size(); i++) {
+            stoneListeners.get(i).onStoneChanged(index);
+        }
+    }
+
+    public void addBoardChangeListener(BoardChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeBoardChangeListener(BoardChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Check whether anyone listens for move events, so callers can skip building them
+     */
+    public boolean hasBoardChangeListeners() {
+        return !changeListeners.isEmpty();
+    }
+
+    /**
+     * Report the cells changed by a move that has been fully applied
+     */
+    public void fireBoardChange(BoardChange change) {
+        for (int i = 0; i < changeListeners.size(); i++) {
+            changeListeners.get(i).onBoardChanged(change);
+        }
+    }
+
+    public Cell getCell(int x, int y) {
+        int index = topology.toIndex(x, y);
+        if (index >= 0) {
+            return cells[index];
+        }
+        return null;
+    }
+
+    public boolean placeStone(Player player, int x, int y) {
+        return placeStone(player, topology.toIndex(x, y));
+    }
+
+    public boolean placeStone(Player player, int index) {
+        if (topology.isValidIndex(index) && !cells[index].isOccupied()) {
+            cells[index].setStone(player);
+            stoneCounts[player.getColor().ordinal()]++;
+            hash ^= Zobrist.stoneKey(player.getColor(), index);
+            if (symmetry != null) {
+                symmetry.toggle(symmetricHashes, player.getColor(), index);
+            }
+            if (bitBoard != null) {
+                bitBoard.set(index, player.getColor());
+            }
+            groupManager.stonePlaced(index, player.getColor());
+            notifyStoneListeners(index);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean removeStone(int x, int y) {
+        return removeStone(topology.toIndex(x, y));
+    }
+
+    public boolean removeStone(int index) {
+        if (topology.isValidIndex(index)) {
+            Player owner = cells[index].getOccupiedBy();
+            cells[index].removeStone();
+            if (bitBoard != null) {
+                bitBoard.clear(index);
+            }
+            if (owner != null) {
+                stoneCounts[owner.getColor().ordinal()]--;
+                hash ^= Zobrist.stoneKey(owner.getColor(), index);
+                if (symmetry != null) {
+                    symmetry.toggle(symmetricHashes, owner.getColor(), index);
+                }
+                groupManager.stoneRemoved(index, owner.getColor());
+                notifyStoneListeners(index);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the Zobrist hash of the stones on the board
+     * @return XOR of Zobrist.stoneKey for every stone; 0 for an empty board
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Get the symmetries of the board
+     * @return The symmetries, or null if the board is not a regular hexagon
+     */
+    public Symmetry getSymmetry() {
+        return symmetry;
+    }
+
+    /**
+     * Get the transform that maps the stones to their canonical form
+     * @return Transform number, or 0 if the board has no symmetries
+     */
+    public int getCanonicalTransform() {
+        return symmetry == null ? 0 : Symmetry.canonicalTransform(symmetricHashes);
+    }
+
+    /**
+     * Get the hash of the stones as they would be after a transform
+     * @param transform Transform number, 0 to 11
+     * @return Hash of the transformed board, or getHash() if the board has no symmetries
+     */
+    public long getSymmetricHash(int transform) {
+        return symmetry == null ? hash : symmetricHashes[transform];
+    }
+
+    /**
+     * Get a hash of the stones that is the same for all 12 symmetric variants of the board
+     * @return Smallest hash over the transforms, or getHash() if the board has no symmetries
+     */
+    public long getCanonicalHash() {
+        return symmetry == null ? hash : symmetricHashes[Symmetry.canonicalTransform(symmetricHashes)];
+    }
+
+    public int getSize() {
+        return topology.getRowCount();
+    }
+
+    public boolean canPlaceStone(int index) {
+        return topology.isValidIndex(index) && !cells[index].isOccupied();
+    }
+
+    public Cell getCell(int index) {
+        if (topology.isValidIndex(index)) {
+            return cells[index];
+        }
+        return null;
+    }
+
+    /**
+     * Get the color of the stone at a position
+     * @param index Position index
+     * @return Stone color, or null if the position is empty or invalid
+     */
+    public PlayerColor getColorAt(int index) {
+        if (!topology.isValidIndex(index)) {
+            return null;
+        }
+        if (bitBoard != null) {
+            return bitBoard.getColor(index);
+        }
+        Player owner = cells[index].getOccupiedBy();
+        return owner == null ? null : owner.getColor();
+    }
+
+    /**
+     * Check whether a position touches at least one stone of the given color
+     */
+    public boolean hasAdjacentStone(int index, PlayerColor color) {
+        if (bitBoard != null) {
+            return bitBoard.hasAdjacentStone(index, color);
+        }
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            Player owner = cells[topology.getNeighbour(k)].getOccupiedBy();
+            if (owner != null && owner.getColor() == color) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count the stones of one color on the board
+     */
+    public int countStones(PlayerColor color) {
+        if (bitBoard != null) {
+            return bitBoard.countStones(color);
+        }
+        return stoneCounts[color.ordinal()];
+    }
+}
\ No newline at end of file
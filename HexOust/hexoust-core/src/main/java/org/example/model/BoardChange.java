@@ -0,0 +1,53 @@
+package org.example.model;
+
+/**
+ * The cells changed by one move: the placed stone and the opponent stones it captured.
+ * Published once per move through Board.BoardChangeListener so that views can repaint
+ * just these cells.
+ */
+public class BoardChange {
+    private final PlayerColor color;
+    private final int placedIndex;
+    private final int[] capturedIndices;
+
+    /**
+     * @param color Color of the placed stone
+     * @param placedIndex Position of the placed stone
+     * @param capturedIndices Positions of the removed opponent stones; copied
+     */
+    public BoardChange(PlayerColor color, int placedIndex, int[] capturedIndices) {
+        this.color = color;
+        this.placedIndex = placedIndex;
+        this.capturedIndices = capturedIndices.clone();
+    }
+
+    public PlayerColor getColor() {
+        return color;
+    }
+
+    public int getPlacedIndex() {
+        return placedIndex;
+    }
+
+    public int getCapturedCount() {
+        return capturedIndices.length;
+    }
+
+    /**
+     * Get a removed position
+     * @param i From 0 to getCapturedCount() - 1
+     */
+    public int getCapturedIndex(int i) {
+        return capturedIndices[i];
+    }
+
+    /**
+     * Get every changed position, the placed stone first
+     */
+    public int[] getChangedIndices() {
+        int[] changed = new int[capturedIndices.length + 1];
+        changed[0] = placedIndex;
+        System.arraycopy(capturedIndices, 0, changed, 1, capturedIndices.length);
+        return changed;
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.model;
+
+/**
+ * Storage used by a Board for rule queries
+ */
+public enum BoardRepresentation {
+    /** Walk Cell objects through the topology tables */
+    CELLS,
+    /** Answer occupancy, adjacency and count queries from a BitBoard, which can also flood fill groups */
+    BITBOARD
+}
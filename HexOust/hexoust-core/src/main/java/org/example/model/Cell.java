@@ -1,7 +1,5 @@
 package org.example.model;
 
-import javafx.scene.paint.Color;
-
 public class Cell {
     private Player occupiedBy;
     private final int x;
@@ -29,19 +27,6 @@ public class Cell {
         return occupiedBy;
     }
 
-    // Add this method to get the color of the current cell
-    public Color getStoneColor() {
-        if (occupiedBy == null) {
-            System.out.println("Cell is not occupied");
-            return Color.WHITE;
-        }
-        System.out.println("Occupied by player: " + occupiedBy.getName());
-        System.out.println("Player color: " + occupiedBy.getColor());
-        Color color = occupiedBy.getColor() == PlayerColor.RED ? Color.RED : Color.BLUE;
-        System.out.println("Returning color: " + color);
-        return color;
-    }
-
     public int getX() {
         return x;
     }
@@ -1,5 +1,9 @@
 package org.example.model;
 
+import org.example.trace.MoveTraceEvent;
+import org.example.trace.Trace;
+import org.example.trace.TraceLevel;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,6 +13,7 @@ public class GameState {
     private final Player player2;
     private boolean gameOver;
     private Player winner; // Add winner property
+    private boolean captureMode;
 
     public interface PlayerChangeListener {
         void onPlayerChanged(Player currentPlayer);
@@ -18,8 +23,13 @@ public class GameState {
         void onGameOver(Player winner);
     }
 
+    public interface CaptureModeListener {
+        void onCaptureModeChanged(Player currentPlayer, boolean captureMode);
+    }
+
     private List<PlayerChangeListener> playerListeners = new ArrayList<>();
     private List<GameOverListener> gameOverListeners = new ArrayList<>();
+    private List<CaptureModeListener> captureModeListeners = new ArrayList<>();
 
     public GameState() {
         this.player1 = new Player("Red Player", PlayerColor.RED);
@@ -41,6 +51,10 @@ public class GameState {
         gameOverListeners.add(listener);
     }
 
+    public void addCaptureModeListener(CaptureModeListener listener) {
+        captureModeListeners.add(listener);
+    }
+
     private void notifyPlayerListeners() {
         for (PlayerChangeListener listener : playerListeners) {
             listener.onPlayerChanged(currentPlayer);
@@ -53,11 +67,33 @@ public class GameState {
         }
     }
 
+    private void notifyCaptureModeListeners() {
+        for (CaptureModeListener listener : captureModeListeners) {
+            listener.onCaptureModeChanged(currentPlayer, captureMode);
+        }
+    }
+
     public void switchPlayer() {
-        currentPlayer = (currentPlayer == player1) ? player2 : player1;
+        switchPlayerQuietly();
         notifyPlayerListeners();
     }
 
+    /**
+     * Switch the player without notifying listeners, for moves that search applies and undoes
+     */
+    public void switchPlayerQuietly() {
+        currentPlayer = (currentPlayer == player1) ? player2 : player1;
+    }
+
+    /**
+     * Get the player with the given color
+     * @param color The color
+     * @return player1 for red, player2 for blue
+     */
+    public Player getPlayer(PlayerColor color) {
+        return player1.getColor() == color ? player1 : player2;
+    }
+
     public Player getCurrentPlayer() {
         return currentPlayer;
     }
@@ -65,11 +101,36 @@ public class GameState {
     public void setGameOver(boolean gameOver) {
         this.gameOver = gameOver;
         if (gameOver && winner != null) {
-            System.out.println("Notifying game over listeners: Winner is " + winner.getName());
+            Trace.move(TraceLevel.INFO, MoveTraceEvent.Kind.GAME_OVER, winner.getColor(), -1, 0);
             notifyGameOverListeners();
         }
     }
 
+    /**
+     * Check whether the current player is continuing after a capture
+     */
+    public boolean isCaptureMode() {
+        return captureMode;
+    }
+
+    /**
+     * Enter or leave continuous capture mode, notifying listeners if it changes
+     * @param captureMode true while the current player continues after a capture
+     */
+    public void setCaptureMode(boolean captureMode) {
+        if (this.captureMode != captureMode) {
+            this.captureMode = captureMode;
+            notifyCaptureModeListeners();
+        }
+    }
+
+    /**
+     * Set capture mode without notifying listeners, for moves that search applies and undoes
+     */
+    public void setCaptureModeQuietly(boolean captureMode) {
+        this.captureMode = captureMode;
+    }
+
     public Player getPlayer1() {
         return player1;
     }
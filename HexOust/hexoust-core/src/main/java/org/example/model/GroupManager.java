@@ -0,0 +1,289 @@
+package org.example.model;
+
+import java.util.*;
+
+/**
+ * Manages stone groups on the board.
+ * Groups are tracked incrementally with a union-find forest that the owning Board updates
+ * on every placement and removal. Each root carries the group size and the number of
+ * stone-to-opponent-stone contacts of the group, and members of a group are linked in a
+ * ring so a group can be listed without searching the board. Removing a stone only
+ * rebuilds the component it belonged to, and the rebuild is deferred until the next query
+ * so that removing a whole captured group costs time linear in its size.
+ */
+public class GroupManager {
+    private static final int EMPTY = -1;
+
+    private final Board board;
+    private final HexTopology topology;
+
+    private final int[] parent;
+    private final int[] size;
+    private final int[] next;
+    private final int[] opponentContacts;
+
+    // Stones whose component was broken up by a removal and still has to be rebuilt
+    private final int[] pending;
+    private int pendingCount = 0;
+
+    GroupManager(Board board) {
+        this.board = board;
+        this.topology = board.getTopology();
+
+        int cellCount = topology.getCellCount();
+        this.parent = new int[cellCount];
+        this.size = new int[cellCount];
+        this.next = new int[cellCount];
+        this.opponentContacts = new int[cellCount];
+        this.pending = new int[cellCount];
+        Arrays.fill(parent, EMPTY);
+    }
+
+    /**
+     * Record a stone that has just been placed on the board
+     */
+    void stonePlaced(int index, PlayerColor color) {
+        // addStone counts the new stone's contacts on both sides, so the rebuild skips it
+        flush(index);
+        addStone(index, color);
+    }
+
+    /**
+     * Record a stone that has just been removed from the board
+     */
+    void stoneRemoved(int index, PlayerColor color) {
+        // Opponent groups lose their contacts with the removed stone
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacentIndex = topology.getNeighbour(k);
+            if (parent[adjacentIndex] != EMPTY && board.getColorAt(adjacentIndex) == color.opponent()) {
+                opponentContacts[find(adjacentIndex)]--;
+            }
+        }
+
+        if (parent[index] == EMPTY) {
+            // Already detached by an earlier removal from the same group
+            return;
+        }
+
+        // Detach the whole component; the remaining stones are regrouped lazily
+        int member = index;
+        do {
+            int following = next[member];
+            parent[member] = EMPTY;
+            if (member != index) {
+                pending[pendingCount++] = member;
+            }
+            member = following;
+        } while (member != index);
+    }
+
+    /**
+     * Gets the group that contains the specified position
+     * @param index Stone index
+     * @return List of all connected stones in the same group
+     */
+    public List<Integer> getGroup(int index) {
+        flush();
+        List<Integer> group = new ArrayList<>();
+        if (!topology.isValidIndex(index) || parent[index] == EMPTY) {
+            return group;
+        }
+
+        int member = index;
+        do {
+            group.add(member);
+            member = next[member];
+        } while (member != index);
+
+        return group;
+    }
+
+    /**
+     * Copy the members of a group into a buffer
+     * @param index Stone index
+     * @param buffer Buffer with room for the whole group
+     * @return Number of stones written, 0 if the position is empty
+     */
+    public int collectGroup(int index, int[] buffer) {
+        return collectGroup(index, buffer, 0);
+    }
+
+    /**
+     * Append the members of a group to a buffer
+     * @param index Stone index
+     * @param buffer Buffer with room for the whole group after offset
+     * @param offset First buffer entry to write
+     * @return Offset just past the last stone written
+     */
+    public int collectGroup(int index, int[] buffer, int offset) {
+        flush();
+        if (!topology.isValidIndex(index) || parent[index] == EMPTY) {
+            return offset;
+        }
+
+        int count = offset;
+        int member = index;
+        do {
+            buffer[count++] = member;
+            member = next[member];
+        } while (member != index);
+
+        return count;
+    }
+
+    /**
+     * Gets an identifier of the group containing a stone; two stones are in the same
+     * group exactly when their identifiers are equal
+     * @param index Stone index
+     * @return Group identifier, or -1 if the position is empty
+     */
+    public int getGroupId(int index) {
+        flush();
+        if (!topology.isValidIndex(index) || parent[index] == EMPTY) {
+            return EMPTY;
+        }
+        return find(index);
+    }
+
+    /**
+     * Gets the number of stones in the group containing a stone
+     * @param index Stone index
+     * @return Group size, or 0 if the position is empty
+     */
+    public int getGroupSize(int index) {
+        flush();
+        if (!topology.isValidIndex(index) || parent[index] == EMPTY) {
+            return 0;
+        }
+        return size[find(index)];
+    }
+
+    /**
+     * Check whether the group containing a stone touches at least one opponent stone
+     * @param index Stone index
+     * @return true if the group is adjacent to an opponent stone
+     */
+    public boolean isAdjacentToOpponent(int index) {
+        flush();
+        if (!topology.isValidIndex(index) || parent[index] == EMPTY) {
+            return false;
+        }
+        return opponentContacts[find(index)] > 0;
+    }
+
+    /**
+     * Gets all adjacent positions for a specified position
+     * @param index Position index
+     * @return List of adjacent position indices
+     */
+    public List<Integer> getAdjacentPositions(int index) {
+        List<Integer> adjacentPositions = new ArrayList<>();
+        if (!topology.isValidIndex(index)) {
+            return adjacentPositions;
+        }
+
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            adjacentPositions.add(topology.getNeighbour(k));
+        }
+
+        return adjacentPositions;
+    }
+
+    /**
+     * Add a newly placed stone, merge it with the adjacent groups of its color
+     * and count its contacts on both sides
+     */
+    private void addStone(int index, PlayerColor color) {
+        parent[index] = index;
+        size[index] = 1;
+        next[index] = index;
+        opponentContacts[index] = 0;
+
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacentIndex = topology.getNeighbour(k);
+            if (parent[adjacentIndex] == EMPTY) {
+                continue;
+            }
+            if (board.getColorAt(adjacentIndex) == color) {
+                union(index, adjacentIndex);
+            } else {
+                opponentContacts[find(adjacentIndex)]++;
+                opponentContacts[find(index)]++;
+            }
+        }
+    }
+
+    /**
+     * Rebuild the components broken up by removals
+     */
+    private void flush() {
+        flush(EMPTY);
+    }
+
+    /**
+     * Rebuild the components broken up by removals
+     * @param placed Stone already on the board whose contacts are not counted yet, or EMPTY
+     */
+    private void flush(int placed) {
+        while (pendingCount > 0) {
+            int member = pending[--pendingCount];
+            PlayerColor color = board.getColorAt(member);
+            // A stone placed back on a pending cell is added by addStone instead
+            if (color == null || parent[member] != EMPTY || member == placed) {
+                continue;
+            }
+
+            // Opponent groups already count their contacts with this stone
+            addStoneKeepingOpponentContacts(member, color, placed);
+        }
+    }
+
+    private void addStoneKeepingOpponentContacts(int index, PlayerColor color, int placed) {
+        parent[index] = index;
+        size[index] = 1;
+        next[index] = index;
+        opponentContacts[index] = 0;
+
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            int adjacentIndex = topology.getNeighbour(k);
+            PlayerColor adjacentColor = board.getColorAt(adjacentIndex);
+            if (adjacentColor == null || adjacentIndex == placed) {
+                continue;
+            }
+            if (adjacentColor != color) {
+                opponentContacts[find(index)]++;
+            } else if (parent[adjacentIndex] != EMPTY) {
+                union(index, adjacentIndex);
+            }
+        }
+    }
+
+    private int find(int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        opponentContacts[rootA] += opponentContacts[rootB];
+
+        // Splice the two member rings together
+        int swapNext = next[rootA];
+        next[rootA] = next[rootB];
+        next[rootB] = swapNext;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package org.example.model;
+
+/**
+ * Immutable lookup tables for a hexagonal board shape.
+ * Cells are numbered row by row, so index 0 is (0, 0) and the last index is the
+ * final cell of the last row. Index/coordinate conversion is a single array read
+ * and adjacency is stored as a flat CSR table: the neighbours of cell {@code i}
+ * are {@code getNeighbour(k)} for {@code getNeighbourStart(i) <= k < getNeighbourEnd(i)}.
+ */
+public final class HexTopology {
+    private static final int[] STANDARD_ROW_LENGTHS = {7, 8, 9, 10, 11, 12, 13, 12, 11, 10, 9, 8, 7};
+    private static final HexTopology STANDARD = new HexTopology(STANDARD_ROW_LENGTHS);
+
+    private final int[] rowLengths;
+    private final int[] rowStart;
+    private final int[] rowOf;
+    private final int[] colOf;
+    private final int[] neighbourStart;
+    private final int[] neighbours;
+
+    /**
+     * Build the tables for a board shape
+     * @param rowLengths Number of cells in each row; neighbouring rows must differ by exactly one cell
+     */
+    public HexTopology(int[] rowLengths) {
+        if (rowLengths == null || rowLengths.length == 0) {
+            throw new IllegalArgumentException("Board must have at least one row");
+        }
+        for (int row = 0; row < rowLengths.length; row++) {
+            if (rowLengths[row] <= 0) {
+                throw new IllegalArgumentException("Row " + row + " must contain at least one cell");
+            }
+            if (row > 0 && Math.abs(rowLengths[row] - rowLengths[row - 1]) != 1) {
+                throw new IllegalArgumentException("Rows " + (row - 1) + " and " + row + " must differ by one cell");
+            }
+        }
+
+        this.rowLengths = rowLengths.clone();
+        this.rowStart = new int[rowLengths.length];
+
+        int cellCount = 0;
+        for (int row = 0; row < rowLengths.length; row++) {
+            rowStart[row] = cellCount;
+            cellCount += rowLengths[row];
+        }
+
+        this.rowOf = new int[cellCount];
+        this.colOf = new int[cellCount];
+        this.neighbourStart = new int[cellCount + 1];
+
+        int[] scratch = new int[cellCount * 6];
+        int count = 0;
+        for (int row = 0; row < rowLengths.length; row++) {
+            for (int col = 0; col < rowLengths[row]; col++) {
+                int index = rowStart[row] + col;
+                rowOf[index] = row;
+                colOf[index] = col;
+                neighbourStart[index] = count;
+
+                // Previous row: shifted left by one when it is shorter than this row
+                if (row > 0) {
+                    int shift = rowLengths[row - 1] < rowLengths[row] ? -1 : 0;
+                    count = addNeighbour(scratch, count, row - 1, col + shift);
+                    count = addNeighbour(scratch, count, row - 1, col + shift + 1);
+                }
+
+                // Same row
+                count = addNeighbour(scratch, count, row, col - 1);
+                count = addNeighbour(scratch, count, row, col + 1);
+
+                // Next row: shifted left by one when it is shorter than this row
+                if (row < rowLengths.length - 1) {
+                    int shift = rowLengths[row + 1] < rowLengths[row] ? -1 : 0;
+                    count = addNeighbour(scratch, count, row + 1, col + shift);
+                    count = addNeighbour(scratch, count, row + 1, col + shift + 1);
+                }
+            }
+        }
+        neighbourStart[cellCount] = count;
+
+        this.neighbours = new int[count];
+        System.arraycopy(scratch, 0, neighbours, 0, count);
+    }
+
+    private int addNeighbour(int[] scratch, int count, int row, int col) {
+        int index = toIndex(row, col);
+        if (index >= 0) {
+            scratch[count++] = index;
+        }
+        return count;
+    }
+
+    /**
+     * Get the shared topology of the standard 127-cell HexOust board
+     * @return Standard topology
+     */
+    public static HexTopology standard() {
+        return STANDARD;
+    }
+
+    public int getCellCount() {
+        return rowOf.length;
+    }
+
+    public int getRowCount() {
+        return rowLengths.length;
+    }
+
+    public int getRowLength(int row) {
+        return rowLengths[row];
+    }
+
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < rowOf.length;
+    }
+
+    public int getRow(int index) {
+        return rowOf[index];
+    }
+
+    public int getCol(int index) {
+        return colOf[index];
+    }
+
+    /**
+     * Convert 2D coordinates to index
+     * @param row Row
+     * @param col Column
+     * @return Index, or -1 if the coordinates are outside the board
+     */
+    public int toIndex(int row, int col) {
+        if (row < 0 || row >= rowLengths.length || col < 0 || col >= rowLengths[row]) {
+            return -1;
+        }
+        return rowStart[row] + col;
+    }
+
+    /**
+     * First position of the cell's entries in the neighbour table
+     */
+    public int getNeighbourStart(int index) {
+        return neighbourStart[index];
+    }
+
+    /**
+     * Position just past the cell's entries in the neighbour table
+     */
+    public int getNeighbourEnd(int index) {
+        return neighbourStart[index + 1];
+    }
+
+    /**
+     * Read an entry of the flat neighbour table
+     * @param position Position between getNeighbourStart and getNeighbourEnd of some cell
+     * @return Index of the neighbouring cell
+     */
+    public int getNeighbour(int position) {
+        return neighbours[position];
+    }
+
+    public int getNeighbourCount(int index) {
+        return neighbourStart[index + 1] - neighbourStart[index];
+    }
+}
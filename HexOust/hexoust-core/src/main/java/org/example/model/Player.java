@@ -7,8 +7,6 @@ public class Player {
     public Player(String name, PlayerColor color) {
         this.name = name;
         this.color = color;
-
-        System.out.println("Creating player - Name: " + name + ", Color: " + color);
     }
 
     public String getName() {
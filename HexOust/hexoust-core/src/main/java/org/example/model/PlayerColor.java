@@ -0,0 +1,12 @@
+package org.example.model;
+
+public enum PlayerColor {
+    RED, BLUE;
+
+    /**
+     * Get the color of the other player
+     */
+    public PlayerColor opponent() {
+        return this == RED ? BLUE : RED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package org.example.model;
+
+/**
+ * The 12 symmetries of a regular hexagonal board (6 rotations, each with or without
+ * a reflection) as precomputed permutations of cell indices.
+ * Cells are mapped to cube coordinates (x, y, z) with x + y + z = 0 and the centre at
+ * the origin: x is the row offset from the middle row and z the position along the row.
+ * A 60 degree rotation is (x, y, z) -> (-z, -x, -y) and the reflection swaps y and z.
+ * Transform t applies the reflection when t >= 6 and then t % 6 rotations; transform 0
+ * is the identity.
+ */
+public final class Symmetry {
+    public static final int TRANSFORMS = 12;
+
+    private static final Symmetry STANDARD = new Symmetry(HexTopology.standard());
+
+    private final HexTopology topology;
+    private final int[][] permutations;
+    private final int[] inverses;
+
+    /**
+     * @param topology A regular hexagon, see supports()
+     * @throws IllegalArgumentException if the board is not a regular hexagon
+     */
+    public Symmetry(HexTopology topology) {
+        if (!supports(topology)) {
+            throw new IllegalArgumentException("Board is not a regular hexagon");
+        }
+        this.topology = topology;
+        int cellCount = topology.getCellCount();
+        int radius = topology.getRowCount() / 2;
+
+        permutations = new int[TRANSFORMS][cellCount];
+        for (int index = 0; index < cellCount; index++) {
+            int x = topology.getRow(index) - radius;
+            int z = topology.getCol(index) - radius - Math.min(x, 0);
+            int y = -x - z;
+            for (int t = 0; t < TRANSFORMS; t++) {
+                int tx = x;
+                int ty = y;
+                int tz = z;
+                if (t >= 6) {
+                    int swap = ty;
+                    ty = tz;
+                    tz = swap;
+                }
+                for (int r = 0; r < t % 6; r++) {
+                    int rx = -tz;
+                    int ry = -tx;
+                    int rz = -ty;
+                    tx = rx;
+                    ty = ry;
+                    tz = rz;
+                }
+                permutations[t][index] = topology.toIndex(tx + radius, tz + radius + Math.min(tx, 0));
+            }
+        }
+
+        inverses = new int[TRANSFORMS];
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int u = 0; u < TRANSFORMS; u++) {
+                if (undoes(u, t)) {
+                    inverses[t] = u;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the symmetries of the standard 127-cell board
+     */
+    public static Symmetry standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Check whether a board is a regular hexagon: an odd number of rows whose lengths
+     * grow by one up to the middle row and shrink by one after it
+     */
+    public static boolean supports(HexTopology topology) {
+        int rowCount = topology.getRowCount();
+        if (rowCount % 2 == 0) {
+            return false;
+        }
+        int radius = rowCount / 2;
+        for (int row = 0; row < rowCount; row++) {
+            if (topology.getRowLength(row) != radius + 1 + Math.min(row, rowCount - 1 - row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public HexTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Map a cell index under a transform
+     * @param transform Transform number, 0 to 11
+     * @param index Position index
+     * @return The index the cell is moved to
+     */
+    public int transform(int transform, int index) {
+        return permutations[transform][index];
+    }
+
+    /**
+     * Get the transform that undoes another
+     * @param transform Transform number, 0 to 11
+     * @return Transform u with transform(u, transform(t, i)) == i for every cell
+     */
+    public int inverse(int transform) {
+        return inverses[transform];
+    }
+
+    /**
+     * Hash the stones of a board under every transform from scratch
+     * @param board The board
+     * @return Array of 12 hashes; entry t is the Zobrist hash of the board mapped by transform t
+     */
+    public long[] hashes(Board board) {
+        long[] hashes = new long[TRANSFORMS];
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            PlayerColor color = board.getColorAt(index);
+            if (color != null) {
+                toggle(hashes, color, index);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Pick the transform that maps a position to its canonical form: the one with the
+     * smallest transformed hash, the lowest transform on ties
+     * @param hashes Hashes under every transform, as kept by Board
+     * @return Transform number
+     */
+    public static int canonicalTransform(long[] hashes) {
+        int best = 0;
+        for (int t = 1; t < TRANSFORMS; t++) {
+            if (Long.compareUnsigned(hashes[t], hashes[best]) < 0) {
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * XOR a stone into the hash of every transformed board
+     */
+    void toggle(long[] hashes, PlayerColor color, int index) {
+        for (int t = 0; t < TRANSFORMS; t++) {
+            hashes[t] ^= Zobrist.stoneKey(color, permutations[t][index]);
+        }
+    }
+
+    private boolean undoes(int u, int t) {
+        for (int index = 0; index < permutations[t].length; index++) {
+            if (permutations[u][permutations[t][index]] != index) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.model;
+
+/**
+ * Fixed random 64-bit keys for Zobrist hashing of positions.
+ * A position hash is the XOR of the keys of its stones, so placing or removing a
+ * stone updates it with one XOR. Keys depend only on color and cell index, never on
+ * the run, so hashes can be stored and compared across processes.
+ */
+public final class Zobrist {
+    /** Mixed in when blue is to move */
+    public static final long BLUE_TO_MOVE = mix(-1);
+    /** Mixed in while the player to move is continuing a capture turn */
+    public static final long CAPTURE_MODE = mix(-2);
+
+    // Precomputed keys for the cells of usual boards; larger indices are mixed on demand
+    private static final int TABLE_CELLS = 256;
+    private static final long[] STONE_KEYS = new long[2 * TABLE_CELLS];
+
+    static {
+        for (int i = 0; i < STONE_KEYS.length; i++) {
+            STONE_KEYS[i] = mix(i);
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Get the key of a stone
+     * @param color Stone color
+     * @param index Position index
+     * @return The key XORed into the hash while the stone is on the board
+     */
+    public static long stoneKey(PlayerColor color, int index) {
+        int slot = 2 * index + color.ordinal();
+        return slot < STONE_KEYS.length ? STONE_KEYS[slot] : mix(slot);
+    }
+
+    /**
+     * Hash the stones of a board from scratch; equal to Board.getHash()
+     * @param board The board
+     * @return XOR of the keys of all stones
+     */
+    public static long hashStones(Board board) {
+        long hash = 0;
+        for (int index = 0; index < board.getTopology().getCellCount(); index++) {
+            PlayerColor color = board.getColorAt(index);
+            if (color != null) {
+                hash ^= stoneKey(color, index);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 finaliser over a fixed stream
+     */
+    private static long mix(long slot) {
+        long z = 0x6A09E667F3BCC909L + (slot + 3) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
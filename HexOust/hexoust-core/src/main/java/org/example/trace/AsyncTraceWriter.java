@@ -0,0 +1,102 @@
+package org.example.trace;
+
+import org.example.model.PlayerColor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring buffer of preallocated trace events drained by a daemon thread.
+ * Any number of threads may record events; a producer that finds the buffer full
+ * drops its event and counts it instead of waiting, so the rule engine never blocks on output.
+ */
+final class AsyncTraceWriter {
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private final MoveTraceEvent[] events;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final TraceSink sink;
+
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail = 0;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * @param capacity Number of buffered events, rounded up to a power of two
+     * @param sink Destination of the events
+     */
+    AsyncTraceWriter(int capacity, TraceSink sink) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new MoveTraceEvent[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.sink = sink;
+
+        for (int i = 0; i < size; i++) {
+            events[i] = new MoveTraceEvent();
+        }
+
+        thread = new Thread(this::drainLoop, "hexoust-trace");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void record(TraceLevel level, MoveTraceEvent.Kind kind, PlayerColor color, int index, int count, String message) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= events.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        // The tail check above guarantees the writer has finished with this slot
+        int slot = (int) (sequence & mask);
+        events[slot].set(level, kind, color, index, count, message);
+        // The slot holds the event for this sequence; no other lap writes this value
+        published.lazySet(slot, sequence + 1);
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stop the writer thread after it has written everything already recorded
+     */
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            long next = tail;
+            int slot = (int) (next & mask);
+            if (published.get(slot) == next + 1) {
+                try {
+                    sink.accept(events[slot]);
+                } catch (RuntimeException e) {
+                    // A failing sink must not stop the writer
+                }
+                // Producers see the slot as free once tail has moved past it
+                tail = next + 1;
+            } else if (!running && head.get() == next) {
+                return;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
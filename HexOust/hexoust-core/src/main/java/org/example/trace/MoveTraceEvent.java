@@ -0,0 +1,112 @@
+package org.example.trace;
+
+import org.example.model.PlayerColor;
+
+/**
+ * A structured trace record of one step of the rule engine.
+ * Instances are preallocated slots of the trace ring buffer and are filled in place,
+ * so recording an event never allocates.
+ */
+public final class MoveTraceEvent {
+
+    public enum Kind {
+        /** A stone was placed with a non-capturing placement */
+        NCP_PLACED,
+        /** A stone was placed with a capturing placement */
+        CP_PLACED,
+        /** Stones were captured; count holds the number of stones removed */
+        CAPTURED,
+        /** The player keeps the turn after a capture */
+        CAPTURE_CONTINUES,
+        /** The turn passed to the other player */
+        TURN_ENDED,
+        /** A move was refused */
+        MOVE_REJECTED,
+        /** The game ended; color holds the winner */
+        GAME_OVER,
+        /** Free-form text in message */
+        MESSAGE
+    }
+
+    private TraceLevel level;
+    private Kind kind;
+    private PlayerColor color;
+    private int index;
+    private int count;
+    private String message;
+    private long timestamp;
+
+    MoveTraceEvent() {
+    }
+
+    void set(TraceLevel level, Kind kind, PlayerColor color, int index, int count, String message) {
+        this.level = level;
+        this.kind = kind;
+        this.color = color;
+        this.index = index;
+        this.count = count;
+        this.message = message;
+        this.timestamp = System.nanoTime();
+    }
+
+    public TraceLevel getLevel() {
+        return level;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the player the event is about
+     * @return Player color, or null if the event is not about a player
+     */
+    public PlayerColor getColor() {
+        return color;
+    }
+
+    /**
+     * Get the board position the event is about
+     * @return Position index, or -1 if the event is not about a position
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the time the event was recorded, from System.nanoTime()
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        if (kind == Kind.MESSAGE) {
+            return "[" + level + "] " + message;
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append('[').append(level).append("] ").append(kind);
+        if (color != null) {
+            builder.append(" color=").append(color);
+        }
+        if (index >= 0) {
+            builder.append(" index=").append(index);
+        }
+        if (count != 0) {
+            builder.append(" count=").append(count);
+        }
+        if (message != null) {
+            builder.append(' ').append(message);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.trace;
+
+import java.io.PrintStream;
+
+/**
+ * Writes each trace event as one line of text
+ */
+public class PrintStreamTraceSink implements TraceSink {
+    private final PrintStream out;
+
+    public PrintStreamTraceSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(MoveTraceEvent event) {
+        out.println(event);
+    }
+}
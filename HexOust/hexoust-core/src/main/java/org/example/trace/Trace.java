@@ -0,0 +1,127 @@
+package org.example.trace;
+
+import org.example.model.PlayerColor;
+
+import java.util.Locale;
+
+/**
+ * Tracing facade used by the model and controller instead of System.out.
+ * When tracing is off every call returns after a single field read and allocates nothing;
+ * callers building text messages should check isEnabled first. When it is on, events are
+ * handed to an AsyncTraceWriter and written on a background thread.
+ * <p>
+ * The initial level can be set with the {@code hexoust.trace} system property
+ * (OFF, INFO or DEBUG, in any case); events then go to standard output. Any other value
+ * leaves tracing off.
+ */
+public final class Trace {
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private static volatile TraceLevel level = TraceLevel.OFF;
+    private static volatile AsyncTraceWriter writer;
+
+    static {
+        String property = System.getProperty("hexoust.trace");
+        TraceLevel initial = parseLevel(property);
+        if (initial != TraceLevel.OFF) {
+            enable(initial, new PrintStreamTraceSink(System.out));
+        }
+    }
+
+    private Trace() {
+    }
+
+    /**
+     * Read a level name without depending on the default locale
+     * @param name Level name, or null
+     * @return The level, or OFF if the name is missing or unknown
+     */
+    static TraceLevel parseLevel(String name) {
+        if (name == null) {
+            return TraceLevel.OFF;
+        }
+        try {
+            return TraceLevel.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            // A bad setting must not break every class that traces
+            return TraceLevel.OFF;
+        }
+    }
+
+    /**
+     * Start writing events up to the given level to a sink, replacing any previous sink
+     * @param newLevel Most verbose level to record
+     * @param sink Destination of the events
+     */
+    public static void enable(TraceLevel newLevel, TraceSink sink) {
+        enable(newLevel, sink, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Start writing events up to the given level to a sink, replacing any previous sink
+     * @param newLevel Most verbose level to record
+     * @param sink Destination of the events
+     * @param capacity Number of events buffered before new events are dropped
+     */
+    public static synchronized void enable(TraceLevel newLevel, TraceSink sink, int capacity) {
+        disable();
+        if (newLevel == TraceLevel.OFF) {
+            return;
+        }
+        writer = new AsyncTraceWriter(capacity, sink);
+        level = newLevel;
+    }
+
+    /**
+     * Stop tracing after writing out the events already recorded
+     */
+    public static synchronized void disable() {
+        level = TraceLevel.OFF;
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    public static boolean isEnabled(TraceLevel eventLevel) {
+        TraceLevel current = level;
+        return current != TraceLevel.OFF && eventLevel.compareTo(current) <= 0;
+    }
+
+    /**
+     * Get the number of events dropped because the buffer was full
+     */
+    public static synchronized long getDroppedCount() {
+        return writer == null ? 0 : writer.getDroppedCount();
+    }
+
+    /**
+     * Record a move event
+     * @param eventLevel Level of the event
+     * @param kind What happened
+     * @param color Player involved, or null
+     * @param index Board position involved, or -1
+     * @param count Number of stones involved, or 0
+     */
+    public static void move(TraceLevel eventLevel, MoveTraceEvent.Kind kind, PlayerColor color, int index, int count) {
+        if (isEnabled(eventLevel)) {
+            record(eventLevel, kind, color, index, count, null);
+        }
+    }
+
+    /**
+     * Record a free-form message
+     */
+    public static void message(TraceLevel eventLevel, String message) {
+        if (isEnabled(eventLevel)) {
+            record(eventLevel, MoveTraceEvent.Kind.MESSAGE, null, -1, 0, message);
+        }
+    }
+
+    private static void record(TraceLevel eventLevel, MoveTraceEvent.Kind kind, PlayerColor color, int index, int count, String message) {
+        AsyncTraceWriter current = writer;
+        if (current != null) {
+            current.record(eventLevel, kind, color, index, count, message);
+        }
+    }
+}
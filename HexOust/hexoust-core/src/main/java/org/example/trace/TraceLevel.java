@@ -0,0 +1,8 @@
+package org.example.trace;
+
+/**
+ * Verbosity of the trace output, from nothing to every rule check
+ */
+public enum TraceLevel {
+    OFF, INFO, DEBUG
+}
@@ -0,0 +1,9 @@
+package org.example.trace;
+
+/**
+ * Receives trace events on the trace writer thread.
+ * The event object is reused for later events, so sinks must not keep a reference to it.
+ */
+public interface TraceSink {
+    void accept(MoveTraceEvent event);
+}
@@ -0,0 +1,123 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.GameState;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for AlphaBetaEngine functionality
+ */
+public class AlphaBetaEngineTest {
+
+    @Test
+    @DisplayName("Test engine captures the last opponent stone to win")
+    void testFindsWinningCapture() {
+        GameController controller = new GameController();
+        Board board = controller.getBoard();
+        GameState gameState = controller.getGameState();
+        board.placeStone(gameState.getPlayer(PlayerColor.RED), 0);
+        board.placeStone(gameState.getPlayer(PlayerColor.BLUE), 2);
+
+        // Red at 1 forms a group of two next to the lone blue stone and captures it
+        SearchResult result = new AlphaBetaEngine(1000).search(controller);
+        assertEquals(1, result.getBestMove());
+        assertTrue(result.getScore() >= AlphaBetaEngine.WIN_SCORE - 10);
+        assertEquals(1, result.getPrincipalVariation()[0]);
+    }
+
+    @Test
+    @DisplayName("Test engine returns a legal move within the budget and leaves the game untouched")
+    void testLegalMoveWithinBudget() {
+        SplittableRandom random = new SplittableRandom(3);
+        RandomMovePolicy randomPolicy = new RandomMovePolicy();
+        AlphaBetaEngine engine = new AlphaBetaEngine(20);
+
+        for (int position = 0; position < 5; position++) {
+            GameController controller = new GameController();
+            for (int ply = 0; ply < 10 + 8 * position && !controller.getGameState().isGameOver(); ply++) {
+                controller.makeMove(randomPolicy.chooseMove(controller, random));
+            }
+            if (controller.getGameState().isGameOver()) {
+                continue;
+            }
+
+            int red = controller.getBoard().countStones(PlayerColor.RED);
+            int blue = controller.getBoard().countStones(PlayerColor.BLUE);
+            PlayerColor toMove = controller.getCurrentPlayer().getColor();
+
+            SearchResult result = engine.search(controller);
+            assertTrue(controller.canPlaceStone(result.getBestMove()), result.toString());
+            assertTrue(result.getDepth() >= 1);
+            // Generous slack for a cold JIT on a loaded machine
+            assertTrue(result.getElapsedNanos() < 200_000_000L, result.toString());
+
+            assertEquals(red, controller.getBoard().countStones(PlayerColor.RED));
+            assertEquals(blue, controller.getBoard().countStones(PlayerColor.BLUE));
+            assertEquals(toMove, controller.getCurrentPlayer().getColor());
+        }
+    }
+
+    @Test
+    @DisplayName("Test progress is reported per iteration and cancel stops a long search")
+    void testProgressAndCancel() {
+        GameController controller = new GameController();
+        controller.makeMove(63);
+        controller.makeMove(20);
+
+        AlphaBetaEngine engine = new AlphaBetaEngine(60_000, new TranspositionTable(4));
+        List<SearchResult> progress = new ArrayList<>();
+        CountDownLatch iterations = new CountDownLatch(2);
+        Thread canceller = new Thread(() -> {
+            // Wait for two iterations, then cancel from another thread like a UI would
+            try {
+                iterations.await();
+                engine.cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        canceller.setDaemon(true);
+        engine.setProgressListener(result -> {
+            synchronized (progress) {
+                progress.add(result);
+            }
+            iterations.countDown();
+        });
+        canceller.start();
+
+        SearchResult result = engine.search(controller);
+        assertTrue(result.getElapsedNanos() < 30_000_000_000L, result.toString());
+        assertTrue(controller.canPlaceStone(result.getBestMove()));
+
+        // One report per completed iteration, the last one matching the result
+        synchronized (progress) {
+            assertTrue(progress.size() >= 2);
+            for (int i = 0; i < progress.size(); i++) {
+                assertEquals(i + 1, progress.get(i).getDepth());
+            }
+            assertEquals(result.getDepth(), progress.get(progress.size() - 1).getDepth());
+            assertEquals(result.getBestMove(), progress.get(progress.size() - 1).getBestMove());
+        }
+
+        // Cancelling stopped that search only; the next one runs to its depth limit
+        engine.setProgressListener(null);
+        engine.setMaxDepth(3);
+        assertEquals(3, engine.search(controller).getDepth());
+
+        // A token cancelled before the search starts still yields a legal move
+        SearchResult early = engine.search(controller, new AtomicBoolean(true));
+        assertEquals(0, early.getDepth());
+        assertTrue(controller.canPlaceStone(early.getBestMove()));
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.GameState;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for EndgameSolver against a plain minimax over the same rules
+ */
+public class EndgameSolverTest {
+    private long minimaxBudget;
+
+    @Test
+    @DisplayName("Test solver agrees with exhaustive minimax on nearly full boards")
+    void testMatchesMinimax() {
+        SplittableRandom random = new SplittableRandom(17);
+        EndgameSolver solver = new EndgameSolver(1_000_000L);
+        int compared = 0;
+
+        for (int position = 0; position < 200 && compared < 6; position++) {
+            GameController controller = nearlyFullBoard(random, 4 + position % 4);
+            if (controller.findWinner() != null) {
+                continue;
+            }
+            // Captures of big groups reopen the board; skip trees too big to enumerate
+            minimaxBudget = 20_000;
+            int expected = minimax(controller.copy(), 0);
+            if (minimaxBudget < 0) {
+                continue;
+            }
+
+            SolverResult result = solver.solve(controller);
+            assertTrue(result.isSolved(), result.toString());
+            assertTrue(result.isMarginExact(), result.toString());
+            assertEquals(expected > 0 ? SolverResult.Outcome.WIN : SolverResult.Outcome.LOSS, result.getOutcome());
+            assertEquals(Math.abs(expected) - EndgameSolver.WIN_BASE, result.getMargin(), result.toString());
+
+            // The reported move keeps the proven score
+            GameController after = controller.copy();
+            PlayerColor mover = after.getCurrentPlayer().getColor();
+            after.apply(result.getBestMove());
+            minimaxBudget = Long.MAX_VALUE;
+            int afterScore = minimax(after, 1);
+            assertEquals(expected, after.getCurrentPlayer().getColor() == mover ? afterScore : -afterScore);
+            compared++;
+        }
+        assertEquals(6, compared);
+    }
+
+    @Test
+    @DisplayName("Test solver gives up within the node limit")
+    void testNodeLimit() {
+        // An open board is far too big to solve
+        GameController controller = new GameController();
+        controller.makeMove(0);
+        controller.makeMove(126);
+        SolverResult result = new EndgameSolver(100).solve(controller);
+        assertEquals(SolverResult.Outcome.UNKNOWN, result.getOutcome());
+        assertEquals(-1, result.getBestMove());
+        assertTrue(result.getNodes() <= 101);
+    }
+
+    @Test
+    @DisplayName("Test solver stops at once when its cancel token is already set")
+    void testCancelled() {
+        GameController controller = new GameController();
+        controller.makeMove(0);
+        controller.makeMove(126);
+        SolverResult result = new EndgameSolver(Long.MAX_VALUE).solve(controller, 0, new AtomicBoolean(true));
+        assertEquals(SolverResult.Outcome.UNKNOWN, result.getOutcome());
+        assertTrue(result.getNodes() <= 1, result.toString());
+    }
+
+    @Test
+    @DisplayName("Test engine solves endgames without a solver being attached")
+    void testEngineDefaultSolver() {
+        SplittableRandom random = new SplittableRandom(29);
+        GameController controller;
+        do {
+            controller = nearlyFullBoard(random, AlphaBetaEngine.DEFAULT_ENDGAME_THRESHOLD);
+        } while (controller.findWinner() != null);
+
+        AlphaBetaEngine engine = new AlphaBetaEngine(2000);
+        SearchResult result = engine.search(controller);
+        // A proven score, not a forced win found by the search itself
+        int score = Math.abs(result.getScore());
+        assertTrue(score >= AlphaBetaEngine.SOLVED_SCORE - 127 && score <= AlphaBetaEngine.SOLVED_SCORE + 127,
+                result.toString());
+        assertTrue(controller.canPlaceStone(result.getBestMove()));
+    }
+
+    @Test
+    @DisplayName("Test engine switches to the solver below the empty-cell threshold")
+    void testEngineUsesSolver() {
+        SplittableRandom random = new SplittableRandom(23);
+        GameController controller;
+        do {
+            controller = nearlyFullBoard(random, 8);
+        } while (controller.findWinner() != null);
+
+        AlphaBetaEngine engine = new AlphaBetaEngine(2000);
+        engine.setEndgameSolver(new EndgameSolver(10_000_000L), 10);
+        SearchResult result = engine.search(controller);
+        assertTrue(Math.abs(result.getScore()) >= AlphaBetaEngine.SOLVED_SCORE - 127, result.toString());
+        assertTrue(controller.canPlaceStone(result.getBestMove()));
+    }
+
+    /**
+     * Fill all but a few cells with random stones, ignoring the placement rules
+     */
+    private GameController nearlyFullBoard(SplittableRandom random, int emptyCells) {
+        GameController controller = new GameController();
+        GameState gameState = controller.getGameState();
+        int cellCount = controller.getBoard().getTopology().getCellCount();
+        for (int index = 0; index < cellCount; index++) {
+            PlayerColor color = random.nextBoolean() ? PlayerColor.RED : PlayerColor.BLUE;
+            controller.getBoard().placeStone(gameState.getPlayer(color), index);
+        }
+        while (EndgameSolver.countEmptyCells(controller) < emptyCells) {
+            controller.getBoard().removeStone(random.nextInt(cellCount));
+        }
+        if (random.nextBoolean()) {
+            gameState.switchPlayerQuietly();
+        }
+        return controller;
+    }
+
+    /**
+     * Score for the side to move in the solver's units, without pruning or caching.
+     * Gives up with minimaxBudget below zero once the budget of nodes is spent.
+     */
+    private int minimax(GameController game, int ply) {
+        if (--minimaxBudget < 0) {
+            return 0;
+        }
+        if (ply > 0) {
+            Player winner = game.findWinner();
+            if (winner != null) {
+                PlayerColor color = winner.getColor();
+                int margin = game.getBoard().countStones(color) - game.getBoard().countStones(color.opponent());
+                return winner == game.getCurrentPlayer()
+                        ? EndgameSolver.WIN_BASE + margin : -(EndgameSolver.WIN_BASE + margin);
+            }
+        }
+        int best = Integer.MIN_VALUE;
+        for (int index = 0; index < game.getBoard().getTopology().getCellCount(); index++) {
+            if (!game.canPlaceStone(index)) {
+                continue;
+            }
+            PlayerColor mover = game.getCurrentPlayer().getColor();
+            game.apply(index);
+            int score = minimax(game, ply + 1);
+            best = Math.max(best, game.getCurrentPlayer().getColor() == mover ? score : -score);
+            game.undo();
+            if (minimaxBudget < 0) {
+                return 0;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.GameState;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MctsEngine functionality
+ */
+public class MctsEngineTest {
+
+    @Test
+    @DisplayName("Test MCTS captures the last opponent stone to win")
+    void testFindsWinningCapture() {
+        GameController controller = new GameController();
+        Board board = controller.getBoard();
+        GameState gameState = controller.getGameState();
+        board.placeStone(gameState.getPlayer(PlayerColor.RED), 0);
+        board.placeStone(gameState.getPlayer(PlayerColor.BLUE), 2);
+
+        try (MctsEngine engine = new MctsEngine(1, 10_000, 5)) {
+            engine.setMaxPlayouts(3000);
+            MctsResult result = engine.search(controller);
+            // Red at 1 captures the lone blue stone; every simulation through it is a win
+            assertEquals(1, result.getBestMove());
+            assertEquals(1.0, result.getWinRate());
+            assertEquals(3000, result.getPlayouts());
+        }
+    }
+
+    @Test
+    @DisplayName("Test parallel MCTS plays legal moves and reuses the subtree of the moves played")
+    void testParallelSearchReusesTree() {
+        GameController controller = new GameController();
+        try (MctsEngine engine = new MctsEngine(4, 10_000, 5)) {
+            engine.setMaxPlayouts(2000);
+
+            MctsResult first = engine.search(controller);
+            assertEquals(0, first.getReusedVisits());
+            assertTrue(controller.canPlaceStone(first.getBestMove()));
+            // The search works on copies
+            assertEquals(0, controller.getBoard().countStones(PlayerColor.RED));
+
+            // Play the chosen move and the reply the engine expected
+            int[] line = first.getPrincipalVariation();
+            assertTrue(line.length >= 2, first.toString());
+            assertTrue(controller.makeMove(line[0]));
+            assertTrue(controller.makeMove(line[1]));
+
+            MctsResult second = engine.search(controller);
+            assertTrue(second.getReusedVisits() > 0, second.toString());
+            assertTrue(controller.canPlaceStone(second.getBestMove()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test MCTS returns a legal move even when the budget ends after one playout or none")
+    void testTinyBudgetReturnsLegalMove() {
+        GameController controller = new GameController();
+        for (long playouts = 0; playouts <= 1; playouts++) {
+            try (MctsEngine engine = new MctsEngine(4, 10_000, 5)) {
+                engine.setMaxPlayouts(playouts);
+                MctsResult result = engine.search(controller);
+                assertTrue(controller.canPlaceStone(result.getBestMove()), result.toString());
+                assertEquals(playouts, result.getPlayouts());
+            }
+        }
+    }
+}
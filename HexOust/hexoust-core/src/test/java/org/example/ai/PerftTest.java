@@ -0,0 +1,49 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.BoardRepresentation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Perft reference counts
+ */
+public class PerftTest {
+
+    @Test
+    @DisplayName("Test perft counts from the empty board")
+    void testEmptyBoardCounts() {
+        GameController controller = new GameController();
+        assertEquals(1, Perft.count(controller, 0));
+        assertEquals(127, Perft.count(controller, 1));
+        // Blue has no stones yet, so every empty cell is an NCP move
+        assertEquals(127 * 126, Perft.count(controller, 2));
+        assertEquals(0, controller.getBoard().countStones(controller.getCurrentPlayer().getColor()));
+    }
+
+    @Test
+    @DisplayName("Test divided parallel counts match the sequential count on both representations")
+    void testDivideMatchesCount() throws InterruptedException {
+        GameController cells = new GameController(BoardRepresentation.CELLS);
+        GameController bits = new GameController(BoardRepresentation.BITBOARD);
+        for (int move : new int[] {60, 61, 62, 70}) {
+            assertTrue(cells.makeMove(move));
+            assertTrue(bits.makeMove(move));
+        }
+
+        long expected = Perft.count(cells, 3);
+        PerftResult result = Perft.divide(bits, 3, 4);
+        assertEquals(expected, result.getNodes());
+        assertEquals(result.getRootMoves().length, result.getRootCounts().length);
+
+        // The root moves are the legal moves of the position
+        int legal = 0;
+        for (int index = 0; index < 127; index++) {
+            legal += cells.canPlaceStone(index) ? 1 : 0;
+        }
+        assertEquals(legal, result.getRootMoves().length);
+        assertThrows(IllegalArgumentException.class, () -> Perft.divide(cells, 0, 1));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.ai;
+
+import org.example.model.BoardRepresentation;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SelfPlayRunner functionality
+ */
+public class SelfPlayRunnerTest {
+
+    @Test
+    @DisplayName("Test self-play finishes every game and the totals add up")
+    void testTotals() throws InterruptedException {
+        SelfPlayRunner runner = new SelfPlayRunner(RandomMovePolicy::new);
+        SelfPlayStats stats = runner.run(200, 1);
+
+        assertEquals(200, stats.getGames());
+        assertEquals(0, stats.getUnfinished());
+        assertEquals(200, stats.getWins(PlayerColor.RED) + stats.getWins(PlayerColor.BLUE));
+        assertTrue(stats.getAverageLength() > 0);
+        // Random games capture regularly, and every chain has at least one capture
+        assertTrue(stats.getCaptureChains() > 0);
+        assertTrue(stats.getAverageChainLength() >= 1);
+        assertTrue(stats.getCapturedStones() >= stats.getCaptureChains());
+    }
+
+    @Test
+    @DisplayName("Test results for a seed do not depend on the thread count")
+    void testReproducible() throws InterruptedException {
+        SelfPlayStats single = new SelfPlayRunner(RandomMovePolicy::new, RandomMovePolicy::new,
+                BoardRepresentation.CELLS, 1).run(300, 42);
+        SelfPlayStats parallel = new SelfPlayRunner(RandomMovePolicy::new, RandomMovePolicy::new,
+                BoardRepresentation.BITBOARD, 4).run(300, 42);
+
+        // Same seed, different threads and representations: identical games
+        assertEquals(single.getMoves(), parallel.getMoves());
+        assertEquals(single.getWins(PlayerColor.RED), parallel.getWins(PlayerColor.RED));
+        assertEquals(single.getCaptureChains(), parallel.getCaptureChains());
+        assertEquals(single.getLongestChain(), parallel.getLongestChain());
+        assertEquals(single.getCapturedStones(), parallel.getCapturedStones());
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.ai;
+
+import org.example.controller.GameController;
+import org.example.model.Board;
+import org.example.model.GameState;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for TranspositionTable functionality
+ */
+public class TranspositionTableTest {
+
+    @Test
+    @DisplayName("Test stored fields read back unchanged")
+    void testRoundTrip() {
+        TranspositionTable table = new TranspositionTable(1, true);
+        table.store(0x1234_5678_9ABC_DEF0L, 126, -AlphaBetaEngine.WIN_SCORE + 3, 17, TranspositionTable.UPPER_BOUND);
+        table.store(0x0FED_CBA9_8765_4321L, -1, 42, 0, TranspositionTable.EXACT);
+
+        long data = table.probe(0x1234_5678_9ABC_DEF0L);
+        assertEquals(126, TranspositionTable.move(data));
+        assertEquals(-AlphaBetaEngine.WIN_SCORE + 3, TranspositionTable.score(data));
+        assertEquals(17, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.bound(data));
+
+        data = table.probe(0x0FED_CBA9_8765_4321L);
+        assertEquals(-1, TranspositionTable.move(data));
+        assertEquals(42, TranspositionTable.score(data));
+        assertEquals(0, table.probe(0x1111L));
+        assertEquals(2, table.getHits());
+        assertEquals(3, table.getProbes());
+
+        // Counters are off unless asked for
+        TranspositionTable quiet = new TranspositionTable(1);
+        quiet.store(1, 0, 0, 1, TranspositionTable.EXACT);
+        assertNotEquals(0, quiet.probe(1));
+        assertEquals(0, quiet.getProbes());
+        assertEquals(0, quiet.getStores());
+    }
+
+    @Test
+    @DisplayName("Test a full bucket keeps the deeper entry")
+    void testDepthPreferredReplacement() {
+        TranspositionTable table = new TranspositionTable(1, true);
+        // Hashes that differ only in low bits share the first bucket
+        table.store(1, 10, 0, 5, TranspositionTable.EXACT);
+        table.store(2, 20, 0, 1, TranspositionTable.EXACT);
+        table.store(3, 30, 0, 3, TranspositionTable.EXACT);
+
+        assertNotEquals(0, table.probe(1));
+        assertEquals(0, table.probe(2));
+        assertNotEquals(0, table.probe(3));
+        assertEquals(1, table.getReplacements());
+        assertEquals(1, table.getCollisions());
+
+        // Entries from an older search give way first, whatever their depth
+        table.newSearch();
+        table.store(4, 40, 0, 0, TranspositionTable.EXACT);
+        assertNotEquals(0, table.probe(4));
+        assertEquals(2, table.getReplacements());
+    }
+
+    @Test
+    @DisplayName("Test concurrent writers never produce an entry with another position's data")
+    void testConcurrentAccess() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1, true);
+        AtomicInteger corrupt = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    // Few distinct hashes so that threads keep overwriting each other
+                    long hash = random.nextLong(50_000) * 0x9E3779B97F4A7C15L;
+                    if (random.nextBoolean()) {
+                        table.store(hash, moveFor(hash), (int) (hash >> 40), 8, TranspositionTable.EXACT);
+                    } else {
+                        long data = table.probe(hash);
+                        if (data != 0 && (TranspositionTable.move(data) != moveFor(hash)
+                                || TranspositionTable.score(data) != (int) (hash >> 40))) {
+                            corrupt.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, corrupt.get());
+        assertTrue(table.getHits() > 0);
+    }
+
+    @Test
+    @DisplayName("Test alpha-beta with a table still finds the winning capture and uses the table")
+    void testEngineWithTable() {
+        GameController controller = new GameController();
+        Board board = controller.getBoard();
+        GameState gameState = controller.getGameState();
+        board.placeStone(gameState.getPlayer(PlayerColor.RED), 0);
+        board.placeStone(gameState.getPlayer(PlayerColor.RED), 10);
+        board.placeStone(gameState.getPlayer(PlayerColor.BLUE), 2);
+        board.placeStone(gameState.getPlayer(PlayerColor.BLUE), 30);
+
+        TranspositionTable table = new TranspositionTable(4, true);
+        AlphaBetaEngine engine = new AlphaBetaEngine(10_000, table);
+        engine.setMaxDepth(3);
+        SearchResult result = engine.search(controller);
+
+        assertTrue(controller.canPlaceStone(result.getBestMove()));
+        assertTrue(table.getStores() > 0);
+        assertTrue(table.getHits() > 0, table.toString());
+    }
+
+    private static int moveFor(long hash) {
+        return (int) ((hash >>> 20) & 0x7F);
+    }
+}
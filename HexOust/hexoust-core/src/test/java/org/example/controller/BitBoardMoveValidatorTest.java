@@ -0,0 +1,15 @@
+package org.example.controller;
+
+import org.example.model.Board;
+import org.example.model.BoardRepresentation;
+
+/**
+ * Runs the MoveValidator tests against a bitboard-backed board
+ */
+public class BitBoardMoveValidatorTest extends MoveValidatorTest {
+
+    @Override
+    protected Board createBoard() {
+        return new Board(BoardRepresentation.BITBOARD);
+    }
+}
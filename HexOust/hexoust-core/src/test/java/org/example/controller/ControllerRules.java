@@ -0,0 +1,80 @@
+package org.example.controller;
+
+import org.example.model.BoardRepresentation;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+/**
+ * GameController as a RulesUnderTest, played either through makeMove or through
+ * apply. The apply variant undoes and re-applies every move, so it also checks that
+ * undo restores the position exactly, and answers legality from generateLegalMoves.
+ */
+class ControllerRules implements RulesUnderTest {
+    private final GameController controller;
+    private final boolean useApply;
+    private final String name;
+    private final LegalMoveList legalMoves = new LegalMoveList(127);
+    private boolean legalMovesStale = true;
+
+    ControllerRules(BoardRepresentation representation, boolean useApply) {
+        this.controller = new GameController(representation);
+        this.useApply = useApply;
+        this.name = representation + (useApply ? " apply/undo" : " makeMove");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isLegal(int index) {
+        if (!useApply) {
+            return controller.canPlaceStone(index);
+        }
+        if (legalMovesStale) {
+            controller.generateLegalMoves(controller.getCurrentPlayer(), legalMoves);
+            legalMovesStale = false;
+        }
+        return legalMoves.contains(index);
+    }
+
+    @Override
+    public void play(int index) {
+        if (useApply) {
+            controller.apply(index);
+            controller.undo();
+            controller.apply(index);
+            legalMovesStale = true;
+        } else {
+            controller.makeMove(index);
+        }
+    }
+
+    @Override
+    public PlayerColor getColorAt(int index) {
+        return controller.getBoard().getColorAt(index);
+    }
+
+    @Override
+    public PlayerColor getColorToMove() {
+        return controller.getCurrentPlayer().getColor();
+    }
+
+    @Override
+    public boolean isContinueCaptureMode() {
+        return controller.isContinueCaptureMode();
+    }
+
+    @Override
+    public PlayerColor getWinner() {
+        Player winner;
+        if (useApply) {
+            // apply never ends the game; ask the same rules checkGameStatus uses
+            winner = controller.findWinner();
+        } else {
+            winner = controller.getGameState().isGameOver() ? controller.getGameState().getWinner() : null;
+        }
+        return winner == null ? null : winner.getColor();
+    }
+}
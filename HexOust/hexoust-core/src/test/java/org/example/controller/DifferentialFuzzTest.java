@@ -0,0 +1,70 @@
+package org.example.controller;
+
+import org.example.model.BoardRepresentation;
+import org.example.model.PlayerColor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Differential tests of every GameController configuration against ReferenceRules.
+ * The number of games defaults to a quick run; for a long run use for example
+ * mvn test -Dtest=DifferentialFuzzTest -Dhexoust.fuzz.games=1000000 -Dhexoust.fuzz.seed=7
+ */
+public class DifferentialFuzzTest {
+    private static final List<Supplier<RulesUnderTest>> CANDIDATES = List.of(
+            () -> new ControllerRules(BoardRepresentation.CELLS, false),
+            () -> new ControllerRules(BoardRepresentation.BITBOARD, false),
+            () -> new ControllerRules(BoardRepresentation.CELLS, true),
+            () -> new ControllerRules(BoardRepresentation.BITBOARD, true));
+
+    @Test
+    @DisplayName("Test all board representations and move paths match the reference rules")
+    void testCandidatesMatchReference() throws InterruptedException {
+        long games = Long.getLong("hexoust.fuzz.games", 200L);
+        long seed = Long.getLong("hexoust.fuzz.seed", 1L);
+
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(CANDIDATES);
+        DifferentialFuzzer.Divergence divergence = fuzzer.run(games, seed, Runtime.getRuntime().availableProcessors());
+        assertNull(divergence, () -> divergence.toString());
+    }
+
+    @Test
+    @DisplayName("Test a failing game is shrunk to a short move sequence")
+    void testShrinksFailingGame() throws InterruptedException {
+        // Rejects the centre whenever red is to move with at least two stones on the board
+        Supplier<RulesUnderTest> broken = () -> new ControllerRules(BoardRepresentation.CELLS, false) {
+            @Override
+            public String getName() {
+                return "broken";
+            }
+
+            @Override
+            public boolean isLegal(int index) {
+                if (index == 63 && getColorToMove() == PlayerColor.RED && countRed() >= 2) {
+                    return false;
+                }
+                return super.isLegal(index);
+            }
+
+            private int countRed() {
+                int count = 0;
+                for (int i = 0; i < 127; i++) {
+                    count += getColorAt(i) == PlayerColor.RED ? 1 : 0;
+                }
+                return count;
+            }
+        };
+
+        DifferentialFuzzer.Divergence divergence = new DifferentialFuzzer(List.of(broken)).run(10, 3, 2);
+        assertNotNull(divergence);
+        assertEquals("broken", divergence.candidate);
+        // Red needs two stones: at least red, blue, red with a capture, at most red, blue, red, blue
+        assertTrue(divergence.moves.length >= 3 && divergence.moves.length <= 4, divergence.toString());
+        assertTrue(divergence.message.contains("63"), divergence.toString());
+    }
+}
@@ -0,0 +1,257 @@
+package org.example.controller;
+
+import org.example.model.HexTopology;
+import org.example.model.PlayerColor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Plays seeded random games with ReferenceRules choosing the moves and checks after
+ * every ply that each candidate implementation agrees on the legal moves of the side
+ * to move, the stones on the board, the side to move, capture mode and the winner.
+ * Game g of a run with seed s is played with new SplittableRandom(s + g), so any
+ * game can be replayed alone. A failing game is shrunk by dropping moves as long as
+ * the rest is still legal under the reference rules and still diverges.
+ */
+class DifferentialFuzzer {
+    private static final int GAMES_PER_BATCH = 256;
+    private static final int MAX_PLIES = 10_000;
+
+    private final int cellCount = HexTopology.standard().getCellCount();
+    private final List<Supplier<RulesUnderTest>> candidates;
+
+    /**
+     * A move sequence from the empty board after which a candidate disagrees with the reference
+     */
+    static final class Divergence {
+        final long seed;
+        final int[] moves;
+        final String candidate;
+        final String message;
+
+        Divergence(long seed, int[] moves, String candidate, String message) {
+            this.seed = seed;
+            this.moves = moves;
+            this.candidate = candidate;
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return candidate + " diverges from the reference in game seed " + seed + " after "
+                    + moves.length + " moves " + Arrays.toString(moves) + ": " + message;
+        }
+    }
+
+    DifferentialFuzzer(List<Supplier<RulesUnderTest>> candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * Play games on a pool of threads until they are done or one diverges
+     * @return The shrunk divergence of the lowest failing batch, or null if all games agree
+     */
+    Divergence run(long games, long seed, int threads) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, workerFactory());
+        AtomicBoolean failed = new AtomicBoolean();
+        try {
+            List<Future<Divergence>> batches = new ArrayList<>();
+            for (long first = 0; first < games; first += GAMES_PER_BATCH) {
+                long start = first;
+                long end = Math.min(games, first + GAMES_PER_BATCH);
+                batches.add(pool.submit(() -> playBatch(seed, start, end, failed)));
+            }
+            for (Future<Divergence> batch : batches) {
+                Divergence divergence = get(batch);
+                if (divergence != null) {
+                    return shrink(divergence);
+                }
+            }
+            return null;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Divergence playBatch(long seed, long start, long end, AtomicBoolean failed) {
+        for (long game = start; game < end && !failed.get(); game++) {
+            Divergence divergence = playGame(seed + game);
+            if (divergence != null) {
+                failed.set(true);
+                return divergence;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Play one random game against every candidate
+     * @return The first divergence, unshrunk, or null
+     */
+    Divergence playGame(long gameSeed) {
+        SplittableRandom random = new SplittableRandom(gameSeed);
+        ReferenceRules reference = new ReferenceRules();
+        List<RulesUnderTest> players = new ArrayList<>();
+        for (Supplier<RulesUnderTest> candidate : candidates) {
+            players.add(candidate.get());
+        }
+
+        int[] moves = new int[MAX_PLIES];
+        boolean[] legal = new boolean[cellCount];
+        for (int ply = 0; ply < MAX_PLIES; ply++) {
+            int legalCount = legalMoves(reference, legal);
+            PlayerColor winner = reference.getWinner();
+            for (RulesUnderTest candidate : players) {
+                String message = compare(reference, legal, winner, candidate, ply > 0);
+                if (message != null) {
+                    return new Divergence(gameSeed, Arrays.copyOf(moves, ply), candidate.getName(), message);
+                }
+            }
+            if (winner != null || legalCount == 0) {
+                break;
+            }
+
+            int move = nthLegalMove(legal, random.nextInt(legalCount));
+            moves[ply] = move;
+            reference.play(move);
+            for (RulesUnderTest candidate : players) {
+                candidate.play(move);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replay a move sequence against one candidate
+     * @return The divergence, or null if the candidate agrees or the sequence is not a legal game
+     */
+    Divergence replay(long seed, int[] moves, Supplier<RulesUnderTest> factory) {
+        ReferenceRules reference = new ReferenceRules();
+        RulesUnderTest candidate = factory.get();
+        boolean[] legal = new boolean[cellCount];
+        for (int ply = 0; ; ply++) {
+            legalMoves(reference, legal);
+            PlayerColor winner = reference.getWinner();
+            String message = compare(reference, legal, winner, candidate, ply > 0);
+            if (message != null) {
+                return new Divergence(seed, Arrays.copyOf(moves, ply), candidate.getName(), message);
+            }
+            if (ply == moves.length || winner != null || !legal[moves[ply]]) {
+                return null;
+            }
+            reference.play(moves[ply]);
+            candidate.play(moves[ply]);
+        }
+    }
+
+    /**
+     * Drop single moves while the game still diverges, until no move can be dropped
+     */
+    Divergence shrink(Divergence divergence) {
+        Supplier<RulesUnderTest> factory = null;
+        for (Supplier<RulesUnderTest> candidate : candidates) {
+            if (candidate.get().getName().equals(divergence.candidate)) {
+                factory = candidate;
+            }
+        }
+        if (factory == null) {
+            return divergence;
+        }
+
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < divergence.moves.length; i++) {
+                int[] shorter = new int[divergence.moves.length - 1];
+                System.arraycopy(divergence.moves, 0, shorter, 0, i);
+                System.arraycopy(divergence.moves, i + 1, shorter, i, shorter.length - i);
+                Divergence smaller = replay(divergence.seed, shorter, factory);
+                if (smaller != null) {
+                    divergence = smaller;
+                    progress = true;
+                    break;
+                }
+            }
+        }
+        return divergence;
+    }
+
+    private String compare(ReferenceRules reference, boolean[] legal, PlayerColor winner,
+                           RulesUnderTest candidate, boolean checkWinner) {
+        if (reference.getColorToMove() != candidate.getColorToMove()) {
+            return "side to move " + candidate.getColorToMove() + ", expected " + reference.getColorToMove();
+        }
+        if (reference.isContinueCaptureMode() != candidate.isContinueCaptureMode()) {
+            return "continueCaptureMode " + candidate.isContinueCaptureMode();
+        }
+        for (int index = 0; index < cellCount; index++) {
+            PlayerColor expected = reference.getColorAt(index);
+            if (expected != candidate.getColorAt(index)) {
+                return "stone at " + index + " is " + candidate.getColorAt(index) + ", expected " + expected;
+            }
+        }
+        if (checkWinner && winner != candidate.getWinner()) {
+            return "winner " + candidate.getWinner() + ", expected " + winner;
+        }
+        if (winner == null) {
+            for (int index = 0; index < cellCount; index++) {
+                if (legal[index] != candidate.isLegal(index)) {
+                    return "move " + index + (legal[index] ? " rejected" : " accepted");
+                }
+            }
+        }
+        return null;
+    }
+
+    private int legalMoves(ReferenceRules reference, boolean[] legal) {
+        int count = 0;
+        for (int index = 0; index < cellCount; index++) {
+            legal[index] = reference.isLegal(index);
+            if (legal[index]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int nthLegalMove(boolean[] legal, int n) {
+        for (int index = 0; index < legal.length; index++) {
+            if (legal[index] && n-- == 0) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("Fewer legal moves than expected");
+    }
+
+    private static Divergence get(Future<Divergence> batch) throws InterruptedException {
+        try {
+            return batch.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "hexoust-fuzz-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.controller;
+
+import org.example.model.BoardChange;
+import org.example.model.BoardRepresentation;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+import org.example.model.Zobrist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for GameController functionality
+ */
+public class GameControllerTest {
+
+    @Test
+    @DisplayName("Test tracked legal moves match full NCP/CP validation during random games")
+    void testLegalMovesMatchValidator() {
+        for (BoardRepresentation representation : BoardRepresentation.values()) {
+            Random random = new Random(7);
+            for (int game = 0; game < 4; game++) {
+                GameController controller = new GameController(representation);
+                MoveValidator validator = new MoveValidator(controller.getBoard());
+
+                for (int ply = 0; ply < 300 && !controller.getGameState().isGameOver(); ply++) {
+                    Player currentPlayer = controller.getCurrentPlayer();
+                    List<Integer> legal = new ArrayList<>();
+                    for (int index = 0; index < 127; index++) {
+                        boolean expected = validator.validateNonCapturingPlacement(currentPlayer, index)
+                                || validator.validateCapturingPlacement(currentPlayer, index);
+                        assertEquals(expected, controller.canPlaceStone(index),
+                                representation + " game " + game + " ply " + ply + " position " + index);
+                        if (expected) {
+                            legal.add(index);
+                        }
+                    }
+                    assertEquals(!legal.isEmpty(), controller.hasLegalMoves(currentPlayer));
+
+                    if (legal.isEmpty()) {
+                        break;
+                    }
+                    assertTrue(controller.makeMove(legal.get(random.nextInt(legal.size()))));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test first move is placed and passes the turn")
+    void testFirstMove() {
+        GameController controller = new GameController();
+        Player red = controller.getCurrentPlayer();
+
+        assertTrue(controller.makeMove(63));
+        assertNotSame(red, controller.getCurrentPlayer());
+        assertFalse(controller.canPlaceStone(63));
+        assertFalse(controller.isContinueCaptureMode());
+    }
+
+    @Test
+    @DisplayName("Test apply and undo walk random lines and restore the position exactly")
+    void testApplyUndo() {
+        for (BoardRepresentation representation : BoardRepresentation.values()) {
+            Random random = new Random(11);
+            GameController controller = new GameController(representation);
+            // Start from a position with a few stones on it
+            for (int ply = 0; ply < 20; ply++) {
+                assertTrue(controller.makeMove(randomLegalMove(controller, random)));
+            }
+
+            for (int line = 0; line < 20; line++) {
+                String before = describe(controller);
+                int applied = 0;
+                while (applied < 60 && controller.findWinner() == null) {
+                    assertTrue(controller.apply(randomLegalMove(controller, random)));
+                    applied++;
+                    assertEquals(applied, controller.getUndoDepth());
+                }
+                for (int i = 0; i < applied; i++) {
+                    controller.undo();
+                }
+                assertEquals(before, describe(controller), representation + " line " + line);
+                assertFalse(controller.getGameState().isGameOver());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test apply does not notify game state listeners")
+    void testApplyIsQuiet() {
+        GameController controller = new GameController();
+        int[] notifications = new int[1];
+        controller.getGameState().addPlayerChangeListener(player -> notifications[0]++);
+
+        assertTrue(controller.apply(63));
+        assertNotSame(controller.getGameState().getPlayer1(), controller.getCurrentPlayer());
+        controller.undo();
+        assertSame(controller.getGameState().getPlayer1(), controller.getCurrentPlayer());
+        assertEquals(0, notifications[0]);
+        assertThrows(IllegalStateException.class, controller::undo);
+    }
+
+    @Test
+    @DisplayName("Test position hash tracks stones, side to move and capture mode incrementally")
+    void testPositionHash() {
+        GameController controller = new GameController(BoardRepresentation.BITBOARD);
+        long empty = controller.getPositionHash();
+        assertEquals(0, controller.getBoard().getHash());
+
+        Random random = new Random(5);
+        long[] seen = new long[40];
+        for (int ply = 0; ply < seen.length; ply++) {
+            seen[ply] = controller.getPositionHash();
+            assertTrue(controller.apply(randomLegalMove(controller, random)));
+            // The incremental hash equals a full rehash of the stones
+            assertEquals(Zobrist.hashStones(controller.getBoard()), controller.getBoard().getHash());
+
+            long expected = controller.getBoard().getHash()
+                    ^ (controller.getCurrentPlayer().getColor() == PlayerColor.BLUE ? Zobrist.BLUE_TO_MOVE : 0)
+                    ^ (controller.isContinueCaptureMode() ? Zobrist.CAPTURE_MODE : 0);
+            assertEquals(expected, controller.getPositionHash());
+        }
+        for (int ply = seen.length - 1; ply >= 0; ply--) {
+            controller.undo();
+            assertEquals(seen[ply], controller.getPositionHash());
+        }
+        assertEquals(empty, controller.getPositionHash());
+
+        // Same stones, different side to move
+        GameController other = new GameController(BoardRepresentation.BITBOARD);
+        other.getGameState().switchPlayerQuietly();
+        assertNotEquals(empty, other.getPositionHash());
+    }
+
+    @Test
+    @DisplayName("Test generated legal moves match per-cell validation and analysis")
+    void testGenerateLegalMoves() {
+        Random random = new Random(20);
+        GameController controller = new GameController(BoardRepresentation.BITBOARD);
+        LegalMoveList legal = new LegalMoveList(127);
+        for (int ply = 0; ply < 200 && !controller.getGameState().isGameOver(); ply++) {
+            for (Player player : new Player[] {controller.getGameState().getPlayer1(), controller.getGameState().getPlayer2()}) {
+                controller.generateLegalMoves(player, legal);
+                assertSame(player, legal.getPlayer());
+                assertEquals(controller.countLegalMoves(player), legal.size());
+
+                int i = 0;
+                MoveValidator validator = new MoveValidator(controller.getBoard());
+                for (int index = 0; index < 127; index++) {
+                    MoveAnalysis analysis = validator.analyze(player, index);
+                    assertEquals(analysis.isLegal(), legal.contains(index), "ply " + ply + " position " + index);
+                    if (analysis.isLegal()) {
+                        assertEquals(index, legal.getMove(i));
+                        assertEquals(analysis.getType(), legal.getType(i));
+                        assertEquals(analysis.getMergedGroupSize(), legal.getMergedGroupSize(i));
+                        assertEquals(analysis.getCapturedCount(), legal.getCapturedCount(i));
+                        i++;
+                    }
+                }
+            }
+            controller.makeMove(randomLegalMove(controller, random));
+        }
+
+        // A finished game has no legal moves
+        controller.getGameState().setGameOver(true);
+        assertTrue(controller.generateLegalMoves(controller.getCurrentPlayer()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test each move publishes one board change with placed and captured cells")
+    void testBoardChangeEvents() {
+        GameController controller = new GameController();
+        List<BoardChange> changes = new ArrayList<>();
+        controller.getBoard().addBoardChangeListener(changes::add);
+
+        assertTrue(controller.makeMove(0));
+        assertTrue(controller.makeMove(2));
+        assertFalse(controller.makeMove(2));
+        assertEquals(2, changes.size());
+        assertEquals(PlayerColor.BLUE, changes.get(1).getColor());
+        assertEquals(0, changes.get(1).getCapturedCount());
+
+        // Red at 1 joins 0 and captures the lone blue stone at 2
+        assertTrue(controller.makeMove(1));
+        assertEquals(3, changes.size());
+        assertArrayEquals(new int[] {1, 2}, changes.get(2).getChangedIndices());
+
+        // Search moves are not reported
+        GameController copy = controller.copy();
+        copy.getBoard().addBoardChangeListener(changes::add);
+        assertTrue(copy.apply(randomLegalMove(copy, new Random(1))));
+        copy.undo();
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    @DisplayName("Test capture mode, turn and game over events arrive in order with the winner")
+    void testGameStateEvents() {
+        GameController controller = new GameController();
+        List<String> events = new ArrayList<>();
+        controller.getGameState().addCaptureModeListener((player, captureMode) ->
+                events.add("capture " + player.getColor() + " " + captureMode));
+        controller.getGameState().addPlayerChangeListener(player -> events.add("turn " + player.getColor()));
+        controller.getGameState().addGameOverListener(winner -> events.add("over " + winner.getColor()));
+
+        assertTrue(controller.makeMove(0));
+        assertTrue(controller.makeMove(2));
+        assertTrue(controller.makeMove(60));
+        assertTrue(controller.makeMove(50));
+        events.clear();
+
+        // Search moves keep GameState's capture mode in step without notifying
+        assertTrue(controller.apply(1));
+        assertTrue(controller.getGameState().isCaptureMode());
+        assertTrue(controller.isContinueCaptureMode());
+        controller.undo();
+        assertFalse(controller.getGameState().isCaptureMode());
+        assertTrue(events.isEmpty());
+
+        // Red at 1 captures the blue stone at 2 and continues, then ends the turn with an NCP move
+        assertTrue(controller.makeMove(1));
+        assertTrue(controller.getGameState().isCaptureMode());
+        assertTrue(controller.makeMove(100));
+        assertFalse(controller.getGameState().isCaptureMode());
+        assertEquals(List.of("capture RED true", "capture RED false", "turn BLUE"), events);
+
+        // Capturing the last blue stone wins; the listener sees the winner
+        GameController shortGame = new GameController();
+        List<Player> winners = new ArrayList<>();
+        shortGame.getGameState().addGameOverListener(winners::add);
+        assertTrue(shortGame.makeMove(0));
+        assertTrue(shortGame.makeMove(2));
+        assertTrue(shortGame.makeMove(1));
+        assertTrue(shortGame.getGameState().isGameOver());
+        assertEquals(List.of(shortGame.getGameState().getPlayer1()), winners);
+    }
+
+    private static int randomLegalMove(GameController controller, Random random) {
+        List<Integer> legal = new ArrayList<>();
+        for (int index = 0; index < 127; index++) {
+            if (controller.canPlaceStone(index)) {
+                legal.add(index);
+            }
+        }
+        return legal.get(random.nextInt(legal.size()));
+    }
+
+    /**
+     * Stones, side to move, capture mode, group sizes and legal moves as one comparable string
+     */
+    private static String describe(GameController controller) {
+        StringBuilder text = new StringBuilder();
+        text.append(controller.getCurrentPlayer().getColor()).append(controller.isContinueCaptureMode());
+        for (int index = 0; index < 127; index++) {
+            text.append(' ').append(controller.getBoard().getColorAt(index))
+                    .append(controller.getBoard().getGroupManager().getGroupSize(index))
+                    .append(controller.canPlaceStone(index) ? '+' : '-');
+        }
+        return text.toString();
+    }
+}
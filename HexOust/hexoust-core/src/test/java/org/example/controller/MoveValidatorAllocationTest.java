@@ -0,0 +1,95 @@
+package org.example.controller;
+
+import org.example.model.Player;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Checks that steady-state move validation does not allocate
+ */
+public class MoveValidatorAllocationTest {
+    private static final int ROUNDS = 200;
+    // Room for measurement noise such as a lazily initialised JMX counter; independent of the call count
+    private static final long ALLOCATION_SLACK_BYTES = 4096;
+
+    @Test
+    @DisplayName("Test validation, analysis and capture collection allocate zero bytes per call")
+    void testValidationAllocatesNothing() {
+        Object threadBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean instanceof ThreadMXBean);
+        ThreadMXBean allocationBean = (ThreadMXBean) threadBean;
+        Assumptions.assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameController controller = playRandomMoves(60);
+        MoveValidator validator = new MoveValidator(controller.getBoard());
+        MoveAnalysis analysis = validator.newAnalysis();
+        int[] captured = new int[127];
+        Player red = controller.getGameState().getPlayer1();
+        Player blue = controller.getGameState().getPlayer2();
+
+        // Warm up so the measured calls run compiled code
+        long checksum = 0;
+        for (int round = 0; round < ROUNDS * 5; round++) {
+            checksum += validateAll(validator, analysis, captured, red, blue);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long overheadStart = allocationBean.getThreadAllocatedBytes(threadId);
+        long overheadEnd = allocationBean.getThreadAllocatedBytes(threadId);
+        long overhead = overheadEnd - overheadStart;
+
+        long start = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < ROUNDS; round++) {
+            checksum += validateAll(validator, analysis, captured, red, blue);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - start - overhead;
+
+        long calls = (long) ROUNDS * 127 * 2 * 4;
+        assertTrue(checksum != 0);
+        assertTrue(allocated <= ALLOCATION_SLACK_BYTES,
+                "Validation allocated " + allocated + " bytes over " + calls + " calls");
+    }
+
+    private long validateAll(MoveValidator validator, MoveAnalysis analysis, int[] captured, Player red, Player blue) {
+        long checksum = 0;
+        for (int index = 0; index < 127; index++) {
+            checksum += validate(validator, analysis, captured, red, index);
+            checksum += validate(validator, analysis, captured, blue, index);
+        }
+        return checksum;
+    }
+
+    private long validate(MoveValidator validator, MoveAnalysis analysis, int[] captured, Player player, int index) {
+        long checksum = 0;
+        if (validator.validateNonCapturingPlacement(player, index)) {
+            checksum++;
+        }
+        if (validator.validateCapturingPlacement(player, index)) {
+            checksum += 2;
+        }
+        checksum += validator.analyze(player, index, analysis).getMergedGroupSize();
+        checksum += validator.collectCaptures(player, index, captured);
+        return checksum;
+    }
+
+    private GameController playRandomMoves(int moves) {
+        GameController controller = new GameController();
+        Random random = new Random(3);
+        for (int move = 0; move < moves && !controller.getGameState().isGameOver(); move++) {
+            int index;
+            do {
+                index = random.nextInt(127);
+            } while (!controller.canPlaceStone(index));
+            controller.makeMove(index);
+        }
+        return controller;
+    }
+}
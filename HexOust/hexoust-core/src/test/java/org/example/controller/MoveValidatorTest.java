@@ -1,6 +1,5 @@
 package org.example.controller;
 
-import javafx.scene.paint.Color;
 import org.example.model.Board;
 import org.example.model.Player;
 import org.example.model.PlayerColor;
@@ -22,9 +21,16 @@ public class MoveValidatorTest {
     private Player redPlayer;
     private Player bluePlayer;
 
+    /**
+     * Create the board under test; subclasses run the same tests on other representations
+     */
+    protected Board createBoard() {
+        return new Board();
+    }
+
     @BeforeEach
     void setUp() {
-        board = new Board();
+        board = createBoard();
         validator = new MoveValidator(board);
         redPlayer = new Player("Red Player", PlayerColor.RED);
         bluePlayer = new Player("Blue Player", PlayerColor.BLUE);
@@ -191,6 +197,34 @@ public class MoveValidatorTest {
         assertTrue(capturedPositions.isEmpty(), "No positions should be captured");
     }
 
+    @Test
+    @DisplayName("Test move analysis - NCP, CP with capture and illegal placement")
+    void testAnalyze() {
+        // Red group (larger): positions 0 and 1; blue group (smaller): position 8
+        board.placeStone(redPlayer, 0);
+        board.placeStone(redPlayer, 1);
+        board.placeStone(bluePlayer, 8);
+
+        // None of the six neighbours of the centre position 63 holds a stone, so it is an NCP move
+        MoveAnalysis ncp = validator.analyze(redPlayer, 63);
+        assertEquals(MoveAnalysis.MoveType.NCP, ncp.getType());
+        assertFalse(ncp.isCapture());
+
+        // Position 9 joins positions 0 and 1 into a group of 3 that captures position 8
+        MoveAnalysis cp = validator.analyze(redPlayer, 9);
+        assertEquals(MoveAnalysis.MoveType.CP, cp.getType());
+        assertEquals(3, cp.getMergedGroupSize());
+        assertEquals(1, cp.getAdjacentOpponentGroupCount());
+        assertEquals(List.of(8), cp.getCapturedPositions());
+
+        // Occupied position is illegal
+        assertFalse(validator.analyze(bluePlayer, 0).isLegal());
+
+        // Position 2 touches no blue stone itself, but the group it joins touches position 8
+        MoveAnalysis touching = validator.analyze(redPlayer, 2);
+        assertEquals(MoveAnalysis.MoveType.CP, touching.getType());
+    }
+
     @Test
     @DisplayName("Test getting adjacent positions")
     void testGetAdjacentPositions() {
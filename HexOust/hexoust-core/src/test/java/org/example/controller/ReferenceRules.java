@@ -0,0 +1,204 @@
+package org.example.controller;
+
+import org.example.model.HexTopology;
+import org.example.model.PlayerColor;
+
+/**
+ * Straightforward implementation of the rules for differential testing: a plain
+ * color array and a breadth-first search for every question, with no incremental
+ * state shared with the production code.
+ */
+class ReferenceRules implements RulesUnderTest {
+    private final HexTopology topology = HexTopology.standard();
+    private final PlayerColor[] cells = new PlayerColor[topology.getCellCount()];
+    private final int[][] neighbours = new int[cells.length][];
+    private PlayerColor toMove = PlayerColor.RED;
+    private boolean continueCaptureMode = false;
+    private int moves = 0;
+
+    ReferenceRules() {
+        for (int index = 0; index < cells.length; index++) {
+            neighbours[index] = computeNeighbours(index);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "reference";
+    }
+
+    @Override
+    public boolean isLegal(int index) {
+        return isLegal(index, toMove);
+    }
+
+    private boolean isLegal(int index, PlayerColor color) {
+        if (cells[index] != null) {
+            return false;
+        }
+        if (!hasNeighbour(index, color)) {
+            // NCP
+            return true;
+        }
+        // CP: the group formed by the new stone must touch an opponent stone
+        for (int position : group(index, color)) {
+            if (hasNeighbour(position, color.opponent())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void play(int index) {
+        boolean captured = false;
+        if (hasNeighbour(index, toMove)) {
+            int[] merged = group(index, toMove);
+            boolean[] removed = new boolean[cells.length];
+            for (int position : merged) {
+                for (int neighbour : neighbours(position)) {
+                    if (cells[neighbour] == toMove.opponent() && !removed[neighbour]) {
+                        int[] opponentGroup = group(neighbour, toMove.opponent());
+                        for (int stone : opponentGroup) {
+                            removed[stone] = true;
+                        }
+                        if (opponentGroup.length < merged.length) {
+                            for (int stone : opponentGroup) {
+                                cells[stone] = null;
+                            }
+                            captured = true;
+                        }
+                    }
+                }
+            }
+        }
+        cells[index] = toMove;
+        moves++;
+
+        continueCaptureMode = captured;
+        if (!captured) {
+            toMove = toMove.opponent();
+        }
+    }
+
+    @Override
+    public PlayerColor getColorAt(int index) {
+        return cells[index];
+    }
+
+    @Override
+    public PlayerColor getColorToMove() {
+        return toMove;
+    }
+
+    @Override
+    public boolean isContinueCaptureMode() {
+        return continueCaptureMode;
+    }
+
+    @Override
+    public PlayerColor getWinner() {
+        if (moves == 0) {
+            return null;
+        }
+        PlayerColor opponent = toMove.opponent();
+        if (count(opponent) == 0) {
+            return toMove;
+        }
+        boolean currentCanMove = hasLegalMove(toMove);
+        boolean opponentCanMove = hasLegalMove(opponent);
+        if (!currentCanMove && !opponentCanMove) {
+            return count(toMove) >= count(opponent) ? toMove : opponent;
+        }
+        if (!currentCanMove) {
+            return opponent;
+        }
+        if (!opponentCanMove && !continueCaptureMode) {
+            return toMove;
+        }
+        return null;
+    }
+
+    private boolean hasLegalMove(PlayerColor color) {
+        for (int index = 0; index < cells.length; index++) {
+            if (isLegal(index, color)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int count(PlayerColor color) {
+        int count = 0;
+        for (PlayerColor cell : cells) {
+            if (cell == color) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasNeighbour(int index, PlayerColor color) {
+        for (int neighbour : neighbours(index)) {
+            if (cells[neighbour] == color) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Positions of the group of a color containing a position, which counts as
+     * that color even if it is still empty
+     */
+    private int[] group(int start, PlayerColor color) {
+        int[] queue = new int[cells.length];
+        boolean[] seen = new boolean[cells.length];
+        int size = 0;
+        queue[size++] = start;
+        seen[start] = true;
+        for (int head = 0; head < size; head++) {
+            for (int neighbour : neighbours(queue[head])) {
+                if (!seen[neighbour] && cells[neighbour] == color) {
+                    seen[neighbour] = true;
+                    queue[size++] = neighbour;
+                }
+            }
+        }
+        int[] group = new int[size];
+        System.arraycopy(queue, 0, group, 0, size);
+        return group;
+    }
+
+    private int[] neighbours(int index) {
+        return neighbours[index];
+    }
+
+    /**
+     * Neighbours from row and column arithmetic rather than the topology's tables
+     */
+    private int[] computeNeighbours(int index) {
+        int row = topology.getRow(index);
+        int col = topology.getCol(index);
+        int middle = topology.getRowCount() / 2;
+        // Rows above the middle row are shifted one column left relative to their lower neighbour
+        int upShift = row <= middle ? -1 : 0;
+        int downShift = row >= middle ? -1 : 0;
+        int[][] candidates = {
+                {row, col - 1}, {row, col + 1},
+                {row - 1, col + upShift}, {row - 1, col + upShift + 1},
+                {row + 1, col + downShift}, {row + 1, col + downShift + 1}
+        };
+        int[] result = new int[6];
+        int count = 0;
+        for (int[] candidate : candidates) {
+            int neighbour = topology.toIndex(candidate[0], candidate[1]);
+            if (neighbour >= 0) {
+                result[count++] = neighbour;
+            }
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.controller;
+
+import org.example.model.PlayerColor;
+
+/**
+ * One implementation of the HexOust rules as seen by DifferentialFuzzer: the
+ * observable state after every ply of a game played from the empty board.
+ */
+interface RulesUnderTest {
+
+    String getName();
+
+    /**
+     * Check whether the side to move may place a stone at a position
+     */
+    boolean isLegal(int index);
+
+    /**
+     * Place a stone for the side to move; only called with legal moves
+     */
+    void play(int index);
+
+    PlayerColor getColorAt(int index);
+
+    PlayerColor getColorToMove();
+
+    boolean isContinueCaptureMode();
+
+    /**
+     * @return Color of the winner once the game is decided, otherwise null
+     */
+    PlayerColor getWinner();
+}
@@ -0,0 +1,65 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Tests for BitBoard group flood fill against GroupManager
+ */
+public class BitBoardTest {
+    private final Player redPlayer = new Player("Red Player", PlayerColor.RED);
+    private final Player bluePlayer = new Player("Blue Player", PlayerColor.BLUE);
+
+    @Test
+    @DisplayName("Test flood fill and neighbourhood masks match GroupManager groups")
+    void testFloodGroupMatchesGroupManager() {
+        Random random = new Random(2);
+        Board board = new Board(BoardRepresentation.BITBOARD);
+        BitBoard bitBoard = board.getBitBoard();
+        HexTopology topology = board.getTopology();
+        long[] group = new long[2];
+        long[] reach = new long[2];
+
+        for (int step = 0; step < 300; step++) {
+            int index = random.nextInt(topology.getCellCount());
+            if (board.getColorAt(index) != null) {
+                board.removeStone(index);
+            } else {
+                board.placeStone(random.nextBoolean() ? redPlayer : bluePlayer, index);
+            }
+
+            for (int probe = 0; probe < topology.getCellCount(); probe++) {
+                bitBoard.floodGroup(probe, group);
+                long expectedLo = 0;
+                long expectedHi = 0;
+                for (int member : board.getGroupManager().getGroup(probe)) {
+                    if (member < 64) {
+                        expectedLo |= 1L << member;
+                    } else {
+                        expectedHi |= 1L << (member - 64);
+                    }
+                }
+                assertEquals(expectedLo, group[0], "Group of " + probe + " at step " + step);
+                assertEquals(expectedHi, group[1], "Group of " + probe + " at step " + step);
+
+                // The neighbourhood of a group is every adjacent cell outside it
+                bitBoard.neighbourhood(group[0], group[1], reach);
+                for (int cell = 0; cell < topology.getCellCount(); cell++) {
+                    boolean adjacent = false;
+                    for (int k = topology.getNeighbourStart(cell); k < topology.getNeighbourEnd(cell); k++) {
+                        adjacent |= contains(group, topology.getNeighbour(k));
+                    }
+                    assertEquals(!contains(group, cell) && adjacent, contains(reach, cell),
+                            "Neighbourhood of " + probe + " at " + cell);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(long[] mask, int cell) {
+        return cell < 64 ? (mask[0] & (1L << cell)) != 0 : (mask[1] & (1L << (cell - 64))) != 0;
+    }
+}
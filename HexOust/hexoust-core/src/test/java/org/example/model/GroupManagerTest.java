@@ -0,0 +1,198 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * Tests for incremental group tracking in GroupManager
+ */
+public class GroupManagerTest {
+    private Board board;
+    private GroupManager groupManager;
+    private Player redPlayer;
+    private Player bluePlayer;
+
+    @BeforeEach
+    void setUp() {
+        board = new Board();
+        groupManager = board.getGroupManager();
+        redPlayer = new Player("Red Player", PlayerColor.RED);
+        bluePlayer = new Player("Blue Player", PlayerColor.BLUE);
+    }
+
+    @Test
+    @DisplayName("Test placing a stone between two groups merges them")
+    void testMergeGroups() {
+        board.placeStone(redPlayer, 0);
+        board.placeStone(redPlayer, 2);
+        assertNotEquals(groupManager.getGroupId(0), groupManager.getGroupId(2));
+
+        // Position 1 joins positions 0 and 2
+        board.placeStone(redPlayer, 1);
+        assertEquals(groupManager.getGroupId(0), groupManager.getGroupId(2));
+        assertEquals(3, groupManager.getGroupSize(2));
+        assertEquals(3, groupManager.getGroup(0).size());
+    }
+
+    @Test
+    @DisplayName("Test removing a connecting stone splits the group")
+    void testSplitGroup() {
+        board.placeStone(redPlayer, 0);
+        board.placeStone(redPlayer, 1);
+        board.placeStone(redPlayer, 2);
+
+        board.removeStone(1);
+        assertNotEquals(groupManager.getGroupId(0), groupManager.getGroupId(2));
+        assertEquals(1, groupManager.getGroupSize(0));
+        assertEquals(0, groupManager.getGroupSize(1));
+        assertEquals(-1, groupManager.getGroupId(1));
+    }
+
+    @Test
+    @DisplayName("Test placing next to a group awaiting rebuild counts the contact once")
+    void testPlaceNextToBrokenGroup() {
+        board.placeStone(redPlayer, 0);
+        board.placeStone(redPlayer, 1);
+        board.placeStone(redPlayer, 2);
+
+        // Positions 1 and 2 are regrouped lazily; the blue stone arrives before any query
+        board.removeStone(0);
+        board.placeStone(bluePlayer, 3);
+        assertTrue(groupManager.isAdjacentToOpponent(1));
+
+        board.removeStone(3);
+        assertFalse(groupManager.isAdjacentToOpponent(1));
+        assertEquals(2, groupManager.getGroupSize(2));
+    }
+
+    @Test
+    @DisplayName("Test opponent adjacency follows placements and removals")
+    void testOpponentAdjacency() {
+        board.placeStone(redPlayer, 0);
+        board.placeStone(redPlayer, 1);
+        assertFalse(groupManager.isAdjacentToOpponent(0));
+
+        // Position 8 touches position 1
+        board.placeStone(bluePlayer, 8);
+        assertTrue(groupManager.isAdjacentToOpponent(0));
+        assertTrue(groupManager.isAdjacentToOpponent(8));
+
+        board.removeStone(8);
+        assertFalse(groupManager.isAdjacentToOpponent(0));
+    }
+
+    @Test
+    @DisplayName("Test tracked groups match a full search after random placements and removals")
+    void testRandomAgainstSearch() {
+        Random random = new Random(42);
+        HexTopology topology = board.getTopology();
+
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(topology.getCellCount());
+            if (board.getCell(index).isOccupied()) {
+                board.removeStone(index);
+            } else {
+                board.placeStone(random.nextBoolean() ? redPlayer : bluePlayer, index);
+            }
+
+            assertGroupMatchesSearch(topology, random.nextInt(topology.getCellCount()), "step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("Test placing a stone back on a cell whose rebuild is pending")
+    void testReplaceOnPendingCell() {
+        HexTopology topology = board.getTopology();
+        int left = topology.toIndex(6, 3);
+        int middle = topology.toIndex(6, 4);
+        int right = topology.toIndex(6, 5);
+        board.placeStone(redPlayer, left);
+        board.placeStone(redPlayer, middle);
+        board.placeStone(redPlayer, right);
+
+        // No query in between, so middle is still waiting to be rebuilt when it is replaced
+        board.removeStone(left);
+        board.removeStone(middle);
+        board.placeStone(redPlayer, middle);
+
+        assertEquals(2, groupManager.getGroupSize(middle));
+        assertEquals(2, groupManager.getGroupSize(right));
+        assertEquals(groupManager.getGroupId(middle), groupManager.getGroupId(right));
+        assertEquals(2, groupManager.getGroup(right).size());
+    }
+
+    @Test
+    @DisplayName("Test groups match a full search after several changes between queries")
+    void testRandomBatchesAgainstSearch() {
+        Random random = new Random(43);
+        HexTopology topology = board.getTopology();
+
+        for (int batch = 0; batch < 1000; batch++) {
+            // Several removals and placements leave rebuilds pending before the next query;
+            // a small patch of cells makes placing back on a pending cell common
+            int changes = 1 + random.nextInt(6);
+            for (int i = 0; i < changes; i++) {
+                int index = random.nextInt(24);
+                if (board.getCell(index).isOccupied()) {
+                    board.removeStone(index);
+                } else {
+                    board.placeStone(random.nextBoolean() ? redPlayer : bluePlayer, index);
+                }
+            }
+
+            for (int probe = 0; probe < topology.getCellCount(); probe++) {
+                assertGroupMatchesSearch(topology, probe, "batch " + batch);
+            }
+        }
+    }
+
+    private void assertGroupMatchesSearch(HexTopology topology, int probe, String where) {
+        boolean[] group = searchGroup(topology, probe);
+        int expectedSize = 0;
+        boolean expectedAdjacent = false;
+        for (int cell = 0; cell < group.length; cell++) {
+            if (!group[cell]) {
+                continue;
+            }
+            expectedSize++;
+            assertEquals(groupManager.getGroupId(probe), groupManager.getGroupId(cell));
+            for (int k = topology.getNeighbourStart(cell); k < topology.getNeighbourEnd(cell); k++) {
+                PlayerColor color = board.getColorAt(topology.getNeighbour(k));
+                if (color != null && color != board.getColorAt(probe)) {
+                    expectedAdjacent = true;
+                }
+            }
+        }
+        assertEquals(expectedSize, groupManager.getGroupSize(probe), "Group size at " + where);
+        assertEquals(expectedAdjacent, groupManager.isAdjacentToOpponent(probe), "Opponent adjacency at " + where);
+        assertEquals(expectedSize, groupManager.getGroup(probe).size(), "Group members at " + where);
+    }
+
+    private boolean[] searchGroup(HexTopology topology, int start) {
+        boolean[] visited = new boolean[topology.getCellCount()];
+        PlayerColor color = board.getColorAt(start);
+        if (color == null) {
+            return visited;
+        }
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        visited[start] = true;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            for (int k = topology.getNeighbourStart(current); k < topology.getNeighbourEnd(current); k++) {
+                int adjacent = topology.getNeighbour(k);
+                if (!visited[adjacent] && board.getColorAt(adjacent) == color) {
+                    visited[adjacent] = true;
+                    queue.add(adjacent);
+                }
+            }
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HexTopology lookup tables
+ */
+public class HexTopologyTest {
+    private final HexTopology topology = HexTopology.standard();
+
+    @Test
+    @DisplayName("Test standard board shape")
+    void testStandardShape() {
+        assertEquals(127, topology.getCellCount());
+        assertEquals(13, topology.getRowCount());
+        assertEquals(13, topology.getRowLength(6));
+    }
+
+    @Test
+    @DisplayName("Test index and coordinate conversion round trip")
+    void testIndexCoordinateRoundTrip() {
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            assertEquals(index, topology.toIndex(topology.getRow(index), topology.getCol(index)));
+        }
+
+        // Coordinates outside the board
+        assertEquals(-1, topology.toIndex(-1, 0));
+        assertEquals(-1, topology.toIndex(0, 7));
+        assertEquals(-1, topology.toIndex(13, 0));
+    }
+
+    @Test
+    @DisplayName("Test adjacency is symmetric")
+    void testAdjacencySymmetric() {
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+                int neighbour = topology.getNeighbour(k);
+                assertTrue(isNeighbour(neighbour, index),
+                        "Position " + index + " lists " + neighbour + " as neighbour but not the other way round");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test neighbour counts of corners and centre")
+    void testNeighbourCounts() {
+        // Corners of the hexagon have 3 neighbours
+        assertEquals(3, topology.getNeighbourCount(0));
+        assertEquals(3, topology.getNeighbourCount(126));
+
+        // Centre position (6, 6) has 6 neighbours
+        assertEquals(6, topology.getNeighbourCount(topology.toIndex(6, 6)));
+
+        // Centre row neighbours on both sides are shifted towards the shorter rows
+        int centre = topology.toIndex(6, 6);
+        assertTrue(isNeighbour(centre, topology.toIndex(5, 5)));
+        assertTrue(isNeighbour(centre, topology.toIndex(5, 6)));
+        assertTrue(isNeighbour(centre, topology.toIndex(7, 5)));
+        assertTrue(isNeighbour(centre, topology.toIndex(7, 6)));
+    }
+
+    private boolean isNeighbour(int index, int candidate) {
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            if (topology.getNeighbour(k) == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
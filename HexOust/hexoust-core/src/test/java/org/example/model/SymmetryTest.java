@@ -0,0 +1,116 @@
+package org.example.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests for the board symmetry tables and canonical hashing
+ */
+public class SymmetryTest {
+    private final HexTopology topology = HexTopology.standard();
+    private final Symmetry symmetry = Symmetry.standard();
+    private final Player redPlayer = new Player("Red Player", PlayerColor.RED);
+    private final Player bluePlayer = new Player("Blue Player", PlayerColor.BLUE);
+
+    @Test
+    @DisplayName("Test every transform is a distinct permutation that keeps adjacency")
+    void testTransformsPreserveAdjacency() {
+        Set<String> seen = new HashSet<>();
+        for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+            boolean[] hit = new boolean[topology.getCellCount()];
+            StringBuilder image = new StringBuilder();
+            for (int index = 0; index < topology.getCellCount(); index++) {
+                int mapped = symmetry.transform(t, index);
+                assertFalse(hit[mapped], "Transform " + t + " maps two cells to " + mapped);
+                hit[mapped] = true;
+                image.append(mapped).append(',');
+
+                for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+                    assertTrue(isNeighbour(mapped, symmetry.transform(t, topology.getNeighbour(k))));
+                }
+                assertEquals(index, symmetry.transform(symmetry.inverse(t), mapped));
+            }
+            assertTrue(seen.add(image.toString()), "Transform " + t + " repeats another");
+        }
+
+        // Transform 0 is the identity and the centre never moves
+        int centre = topology.toIndex(6, 6);
+        for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+            assertEquals(centre, symmetry.transform(t, centre));
+        }
+        assertEquals(57, symmetry.transform(0, 57));
+    }
+
+    @Test
+    @DisplayName("Test symmetric positions share a canonical hash")
+    void testCanonicalHash() {
+        Random random = new Random(16);
+        Board board = new Board();
+        for (int i = 0; i < 40; i++) {
+            int index = random.nextInt(topology.getCellCount());
+            board.placeStone(i % 2 == 0 ? redPlayer : bluePlayer, index);
+        }
+        // Removals keep the incremental hashes in step
+        board.removeStone(board.getColorAt(0) != null ? 0 : 1);
+
+        long[] fromScratch = symmetry.hashes(board);
+        for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+            assertEquals(fromScratch[t], board.getSymmetricHash(t));
+        }
+        assertEquals(board.getHash(), board.getSymmetricHash(0));
+
+        for (BoardRepresentation representation : BoardRepresentation.values()) {
+            for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+                Board transformed = new Board(representation);
+                for (int index = 0; index < topology.getCellCount(); index++) {
+                    PlayerColor color = board.getColorAt(index);
+                    if (color != null) {
+                        transformed.placeStone(color == PlayerColor.RED ? redPlayer : bluePlayer,
+                                symmetry.transform(t, index));
+                    }
+                }
+                assertEquals(board.getSymmetricHash(t), transformed.getHash());
+                assertEquals(board.getCanonicalHash(), transformed.getCanonicalHash());
+            }
+        }
+
+        // Swapping the colors gives a different position
+        Board swapped = new Board();
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            PlayerColor color = board.getColorAt(index);
+            if (color != null) {
+                swapped.placeStone(color == PlayerColor.RED ? bluePlayer : redPlayer, index);
+            }
+        }
+        assertNotEquals(board.getCanonicalHash(), swapped.getCanonicalHash());
+    }
+
+    @Test
+    @DisplayName("Test boards that are not regular hexagons have no symmetries")
+    void testUnsupportedTopology() {
+        HexTopology uneven = new HexTopology(new int[] {3, 4, 5, 4});
+        assertFalse(Symmetry.supports(uneven));
+        assertThrows(IllegalArgumentException.class, () -> new Symmetry(uneven));
+
+        Board board = new Board(uneven);
+        assertNull(board.getSymmetry());
+        board.placeStone(redPlayer, 2);
+        assertEquals(board.getHash(), board.getCanonicalHash());
+
+        assertTrue(Symmetry.supports(new HexTopology(new int[] {2, 3, 2})));
+    }
+
+    private boolean isNeighbour(int index, int candidate) {
+        for (int k = topology.getNeighbourStart(index); k < topology.getNeighbourEnd(index); k++) {
+            if (topology.getNeighbour(k) == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.trace;
+
+import org.example.controller.GameController;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tests for the asynchronous trace facility
+ */
+public class TraceTest {
+
+    @AfterEach
+    void tearDown() {
+        Trace.disable();
+    }
+
+    @Test
+    @DisplayName("Test move events reach the sink in order")
+    void testMoveEventsDelivered() {
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        Trace.enable(TraceLevel.INFO, event -> lines.add(event.getKind() + ":" + event.getIndex()));
+
+        GameController controller = new GameController();
+        assertTrue(controller.makeMove(63));
+        assertFalse(controller.makeMove(63));
+
+        // Disabling waits until everything recorded has been written
+        Trace.disable();
+        assertEquals("NCP_PLACED:63", lines.get(0));
+        assertEquals("TURN_ENDED:-1", lines.get(1));
+        assertEquals("MOVE_REJECTED:63", lines.get(2));
+    }
+
+    @Test
+    @DisplayName("Test levels filter events")
+    void testLevelFiltering() {
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        Trace.enable(TraceLevel.INFO, event -> lines.add(event.getMessage()));
+
+        assertTrue(Trace.isEnabled(TraceLevel.INFO));
+        assertFalse(Trace.isEnabled(TraceLevel.DEBUG));
+        Trace.message(TraceLevel.DEBUG, "hidden");
+        Trace.message(TraceLevel.INFO, "shown");
+
+        Trace.disable();
+        assertEquals(Collections.singletonList("shown"), lines);
+        assertFalse(Trace.isEnabled(TraceLevel.INFO));
+    }
+
+    @Test
+    @DisplayName("Test a full buffer drops events instead of blocking")
+    void testFullBufferDrops() throws InterruptedException {
+        Object gate = new Object();
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        Trace.enable(TraceLevel.INFO, event -> {
+            synchronized (gate) {
+                lines.add(event.getMessage());
+            }
+        }, 4);
+
+        // Hold the writer so the buffer fills up
+        synchronized (gate) {
+            for (int i = 0; i < 100; i++) {
+                Trace.message(TraceLevel.INFO, "event " + i);
+            }
+            assertTrue(Trace.getDroppedCount() > 0);
+        }
+
+        Trace.disable();
+        assertTrue(lines.size() < 100);
+        assertEquals("event 0", lines.get(0));
+    }
+
+    @Test
+    @DisplayName("Test level names are read in any case and locale, with unknown names turning tracing off")
+    void testParseLevel() {
+        Locale previous = Locale.getDefault();
+        try {
+            // Upper-casing "info" in Turkish gives a dotted capital I
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(TraceLevel.INFO, Trace.parseLevel(" info "));
+            assertEquals(TraceLevel.DEBUG, Trace.parseLevel("Debug"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+        assertEquals(TraceLevel.OFF, Trace.parseLevel("verbose"));
+        assertEquals(TraceLevel.OFF, Trace.parseLevel(""));
+        assertEquals(TraceLevel.OFF, Trace.parseLevel(null));
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.view;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Polygon;
+import org.example.controller.GameController;
+import org.example.controller.MoveAnalysis;
+import org.example.model.BoardChange;
+import org.example.model.PlayerColor;
+
+public class BoardView extends Pane {
+    private final GameController controller;
+    private final LegalMoveCache legalMoves;
+    private static final double HEX_SIZE = 25;
+    private int highlightedIndex = -1;
+    private boolean showLegalMoves = false;
+
+    public BoardView(GameController controller) {
+        this.controller = controller;
+        this.legalMoves = new LegalMoveCache(controller);
+        setStyle("-fx-background-color: white;");
+        createHexagonalBoard();
+        // Repaint only the cells each move changes
+        controller.getBoard().addBoardChangeListener(this::handleBoardChange);
+        // The winning move is repainted before the game ends, so clear the overlay afterwards
+        controller.getGameState().addGameOverListener(winner -> {
+            if (showLegalMoves) {
+                updateAllCellColors();
+            }
+        });
+    }
+
+    /**
+     * Tint every legal move of the side to move, not just the one under the mouse
+     * @param show true to show the overlay
+     */
+    public void setShowLegalMoves(boolean show) {
+        if (show != showLegalMoves) {
+            showLegalMoves = show;
+            updateAllCellColors();
+        }
+    }
+
+    public void refresh() {
+        getChildren().clear();
+        createHexagonalBoard();
+        updateAllCellColors();
+    }
+
+    private void createHexagonalBoard() {
+        double horizontalDistance = HEX_SIZE * 1.5;
+        double verticalDistance = HEX_SIZE * Math.sqrt(3);
+
+        double boardWidth = 13 * horizontalDistance;
+        double boardHeight = 13 * verticalDistance;
+
+        double startX = (1200 - boardWidth) / 2;
+        double startY = (1000 - boardHeight) / 2 - 50;
+
+        int[] totalHexesPerRow = {7, 8, 9, 10, 11, 12, 13, 12, 11, 10, 9, 8, 7};
+        int cellIndex = 0;
+
+        for (int col = 0; col < totalHexesPerRow.length; col++) {
+            int hexCount = totalHexesPerRow[col];
+            double yOffset = (13 - hexCount) * verticalDistance / 2;
+
+            for (int row = 0; row < hexCount; row++) {
+                double x = startX + col * horizontalDistance;
+                double y = startY + yOffset + row * verticalDistance;
+
+                Polygon hexagon = createHexagon(x, y);
+                hexagon.setUserData(cellIndex);
+
+                setupHexagonEvents(hexagon);
+
+                getChildren().add(hexagon);
+                cellIndex++;
+            }
+        }
+    }
+
+    private void setupHexagonEvents(Polygon hexagon) {
+        hexagon.setOnMouseEntered(event -> handleMouseEnter(hexagon));
+        hexagon.setOnMouseExited(event -> handleMouseExit(hexagon));
+        hexagon.setOnMouseClicked(event -> handleCellClick(hexagon));
+    }
+
+    private void updateAllCellColors() {
+        for (int index = 0; index < getChildren().size(); index++) {
+            updateCellColor(index);
+        }
+    }
+
+    private void updateCellColor(int index) {
+        Polygon hexagon = (Polygon) getChildren().get(index);
+        hexagon.setFill(cellColor(index));
+    }
+
+    private Color cellColor(int index) {
+        // Stone colours live in the view; the model only knows PlayerColor
+        PlayerColor owner = controller.getBoard().getColorAt(index);
+        if (owner != null) {
+            return owner == PlayerColor.RED ? Color.RED : Color.BLUE;
+        }
+        if (index != highlightedIndex && !showLegalMoves) {
+            return Color.WHITE;
+        }
+
+        // Highlights come from the cached legal moves; no rule work per mouse event
+        MoveAnalysis.MoveType type = legalMoves.getType(index);
+        if (type == MoveAnalysis.MoveType.ILLEGAL) {
+            return Color.WHITE;
+        }
+        if (index == highlightedIndex) {
+            // Yellow for NCP placements, green for CP placements
+            return type == MoveAnalysis.MoveType.NCP ? Color.YELLOW : Color.LIGHTGREEN;
+        }
+        return type == MoveAnalysis.MoveType.NCP ? Color.LIGHTYELLOW : Color.HONEYDEW;
+    }
+
+    private void handleBoardChange(BoardChange change) {
+        if (showLegalMoves) {
+            // Every empty cell may have gained or lost its overlay tint
+            updateAllCellColors();
+            return;
+        }
+        updateCellColor(change.getPlacedIndex());
+        for (int i = 0; i < change.getCapturedCount(); i++) {
+            updateCellColor(change.getCapturedIndex(i));
+        }
+    }
+
+    private void handleMouseEnter(Polygon hexagon) {
+        int index = (Integer) hexagon.getUserData();
+        if (legalMoves.isLegal(index)) {
+            setHighlighted(index);
+        }
+    }
+
+    private void handleMouseExit(Polygon hexagon) {
+        if ((Integer) hexagon.getUserData() == highlightedIndex) {
+            setHighlighted(-1);
+        }
+    }
+
+    private void handleCellClick(Polygon hexagon) {
+        int index = (Integer) hexagon.getUserData();
+
+        // The board change event repaints the placed and captured cells
+        if (controller.makeMove(index)) {
+            // Reset highlight state
+            setHighlighted(-1);
+        }
+    }
+
+    private void setHighlighted(int index) {
+        int previous = highlightedIndex;
+        highlightedIndex = index;
+        if (previous >= 0) {
+            updateCellColor(previous);
+        }
+        if (index >= 0) {
+            updateCellColor(index);
+        }
+    }
+
+    private Polygon createHexagon(double x, double y) {
+        Polygon hexagon = new Polygon();
+        double angle = 0;  // Changed to 0 to rotate the hexagon 30 degrees clockwise
+
+        for (int i = 0; i < 6; i++) {
+            double pointX = x + HEX_SIZE * Math.cos(angle + i * Math.PI / 3);
+            double pointY = y + HEX_SIZE * Math.sin(angle + i * Math.PI / 3);
+            hexagon.getPoints().addAll(pointX, pointY);
+        }
+
+        hexagon.setFill(Color.WHITE);
+        hexagon.setStroke(Color.BLACK);
+        return hexagon;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+package org.example.view;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import org.example.controller.GameController;
+import org.example.controller.MoveAnalysis;
+import org.example.model.BoardChange;
+import org.example.model.HexTopology;
+import org.example.model.PlayerColor;
+
+/**
+ * Board renderer that draws every cell on one Canvas instead of one Polygon node per cell.
+ * Vertex coordinates are computed once per cell when the view is built. Mouse positions
+ * are mapped to cells with axial hex coordinates, and only cells marked dirty by a move
+ * or a hover change are redrawn, once per batch of changes.
+ * <p>
+ * The layout matches BoardView: flat-topped hexagons, one screen column per board row.
+ * For a board row at offset q from the middle row and axial coordinate s along it, the
+ * centre is at (1.5 * q, sqrt(3) * (s + q / 2)) hex sizes from the board centre.
+ */
+public class CanvasBoardView extends Canvas {
+    private static final double HEX_SIZE = 25;
+    private static final double MARGIN = 10;
+
+    private final GameController controller;
+    private final LegalMoveCache legalMoves;
+    private final HexTopology topology;
+    private final int radius;
+    private final double centreX;
+    private final double centreY;
+    private final double[][] vertexX;
+    private final double[][] vertexY;
+
+    private final boolean[] dirty;
+    private final int[] dirtyCells;
+    private int dirtyCount = 0;
+    private boolean redrawScheduled = false;
+    private int highlighted = -1;
+    private boolean showLegalMoves = false;
+
+    public CanvasBoardView(GameController controller) {
+        this.controller = controller;
+        this.legalMoves = new LegalMoveCache(controller);
+        this.topology = controller.getBoard().getTopology();
+        this.radius = topology.getRowCount() / 2;
+
+        double horizontalDistance = HEX_SIZE * 1.5;
+        double verticalDistance = HEX_SIZE * Math.sqrt(3);
+        setWidth(2 * radius * horizontalDistance + 2 * HEX_SIZE + 2 * MARGIN);
+        setHeight(topology.getRowCount() * verticalDistance + 2 * MARGIN);
+        centreX = getWidth() / 2;
+        centreY = getHeight() / 2;
+
+        double[] cornerX = new double[6];
+        double[] cornerY = new double[6];
+        for (int i = 0; i < 6; i++) {
+            cornerX[i] = HEX_SIZE * Math.cos(i * Math.PI / 3);
+            cornerY[i] = HEX_SIZE * Math.sin(i * Math.PI / 3);
+        }
+
+        int cellCount = topology.getCellCount();
+        vertexX = new double[cellCount][6];
+        vertexY = new double[cellCount][6];
+        for (int index = 0; index < cellCount; index++) {
+            int q = topology.getRow(index) - radius;
+            int s = topology.getCol(index) - radius - Math.min(q, 0);
+            double x = centreX + q * horizontalDistance;
+            double y = centreY + (s + q / 2.0) * verticalDistance;
+            for (int i = 0; i < 6; i++) {
+                vertexX[index][i] = x + cornerX[i];
+                vertexY[index][i] = y + cornerY[i];
+            }
+        }
+
+        dirty = new boolean[cellCount];
+        dirtyCells = new int[cellCount];
+
+        controller.getBoard().addBoardChangeListener(this::handleBoardChange);
+        setOnMouseMoved(this::handleMouseMoved);
+        setOnMouseExited(event -> setHighlighted(-1));
+        setOnMouseClicked(this::handleMouseClicked);
+        redrawAll();
+    }
+
+    /**
+     * Repaint the whole board, for example after the position was replaced
+     */
+    public void redrawAll() {
+        GraphicsContext graphics = getGraphicsContext2D();
+        graphics.setFill(Color.WHITE);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            drawCell(graphics, index);
+        }
+    }
+
+    /**
+     * Tint every legal move of the side to move, not just the one under the mouse
+     * @param show true to show the overlay
+     */
+    public void setShowLegalMoves(boolean show) {
+        if (show != showLegalMoves) {
+            showLegalMoves = show;
+            markAllDirty();
+        }
+    }
+
+    /**
+     * Find the cell under a point of the canvas
+     * @return Position index, or -1 outside the board
+     */
+    public int cellAt(double x, double y) {
+        double q = (x - centreX) / (HEX_SIZE * 1.5);
+        double s = (y - centreY) / (HEX_SIZE * Math.sqrt(3)) - q / 2;
+
+        // Round the cube coordinates (q, -q - s, s) to the nearest cell
+        double t = -q - s;
+        long roundQ = Math.round(q);
+        long roundS = Math.round(s);
+        long roundT = Math.round(t);
+        double errorQ = Math.abs(roundQ - q);
+        double errorS = Math.abs(roundS - s);
+        double errorT = Math.abs(roundT - t);
+        if (errorQ > errorS && errorQ > errorT) {
+            roundQ = -roundT - roundS;
+        } else if (errorS > errorT) {
+            roundS = -roundQ - roundT;
+        }
+
+        if (Math.abs(roundQ) > radius) {
+            return -1;
+        }
+        int row = (int) roundQ + radius;
+        int col = (int) roundS + radius + Math.min((int) roundQ, 0);
+        return topology.toIndex(row, col);
+    }
+
+    private void handleBoardChange(BoardChange change) {
+        if (showLegalMoves) {
+            // Every empty cell may have gained or lost its overlay tint
+            markAllDirty();
+            return;
+        }
+        markDirty(change.getPlacedIndex());
+        for (int i = 0; i < change.getCapturedCount(); i++) {
+            markDirty(change.getCapturedIndex(i));
+        }
+    }
+
+    private void handleMouseMoved(MouseEvent event) {
+        int index = cellAt(event.getX(), event.getY());
+        if (index == highlighted) {
+            return;
+        }
+        // Only legal cells are highlighted, like BoardView
+        setHighlighted(index >= 0 && legalMoves.isLegal(index) ? index : -1);
+    }
+
+    private void handleMouseClicked(MouseEvent event) {
+        int index = cellAt(event.getX(), event.getY());
+        // The board change event marks the placed and captured cells
+        if (index >= 0 && controller.makeMove(index)) {
+            setHighlighted(-1);
+        }
+    }
+
+    private void setHighlighted(int index) {
+        if (highlighted >= 0) {
+            markDirty(highlighted);
+        }
+        highlighted = index;
+        if (index >= 0) {
+            markDirty(index);
+        }
+    }
+
+    private void markAllDirty() {
+        for (int index = 0; index < topology.getCellCount(); index++) {
+            markDirty(index);
+        }
+    }
+
+    private void markDirty(int index) {
+        if (!dirty[index]) {
+            dirty[index] = true;
+            dirtyCells[dirtyCount++] = index;
+        }
+        if (!redrawScheduled) {
+            // Coalesce all changes made by the current event into one redraw
+            redrawScheduled = true;
+            Platform.runLater(this::redrawDirty);
+        }
+    }
+
+    private void redrawDirty() {
+        redrawScheduled = false;
+        GraphicsContext graphics = getGraphicsContext2D();
+        for (int i = 0; i < dirtyCount; i++) {
+            int index = dirtyCells[i];
+            dirty[index] = false;
+            drawCell(graphics, index);
+        }
+        dirtyCount = 0;
+    }
+
+    private void drawCell(GraphicsContext graphics, int index) {
+        graphics.setFill(cellColor(index));
+        graphics.fillPolygon(vertexX[index], vertexY[index], 6);
+        graphics.setStroke(Color.BLACK);
+        graphics.strokePolygon(vertexX[index], vertexY[index], 6);
+    }
+
+    private Color cellColor(int index) {
+        // Stone colours live in the view; the model only knows PlayerColor
+        PlayerColor owner = controller.getBoard().getColorAt(index);
+        if (owner != null) {
+            return owner == PlayerColor.RED ? Color.RED : Color.BLUE;
+        }
+        if (index != highlighted && !showLegalMoves) {
+            return Color.WHITE;
+        }
+
+        // Highlights come from the cached legal moves; no rule work per mouse event
+        MoveAnalysis.MoveType type = legalMoves.getType(index);
+        if (type == MoveAnalysis.MoveType.ILLEGAL) {
+            return Color.WHITE;
+        }
+        if (index == highlighted) {
+            // Yellow for NCP placements, green for CP placements
+            return type == MoveAnalysis.MoveType.NCP ? Color.YELLOW : Color.LIGHTGREEN;
+        }
+        return type == MoveAnalysis.MoveType.NCP ? Color.LIGHTYELLOW : Color.HONEYDEW;
+    }
+}
+
@@ -0,0 +1,120 @@
+package org.example.view;
+
+import javafx.application.Platform;
+import org.example.ai.AlphaBetaEngine;
+import org.example.ai.SearchResult;
+import org.example.ai.TranspositionTable;
+import org.example.controller.GameController;
+import org.example.model.PlayerColor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Plays one side of a game without blocking the JavaFX Application Thread.
+ * Each move is searched by one AlphaBetaEngine on a copy of the position on a daemon
+ * worker thread, with a cancel token per move. Progress and the chosen move come back
+ * through Platform.runLater, and the move is only played if its token was not cancelled
+ * in the meantime, by a new game or by closing the window. Once few cells are empty
+ * the engine's default EndgameSolver plays exact moves.
+ * All methods are called on the JavaFX Application Thread.
+ */
+public class ComputerPlayer {
+    private static final int TABLE_MEGABYTES = 32;
+
+    private final PlayerColor color;
+    // Only used on the worker thread
+    private final AlphaBetaEngine engine;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hexoust-computer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Consumer<SearchResult> progressListener = result -> { };
+    // Cancel token of the search in progress, null while idle
+    private AtomicBoolean pending;
+
+    /**
+     * @param color The side the computer plays
+     * @param thinkTimeMillis Time budget per move
+     */
+    public ComputerPlayer(PlayerColor color, long thinkTimeMillis) {
+        this.color = color;
+        this.engine = new AlphaBetaEngine(thinkTimeMillis, new TranspositionTable(TABLE_MEGABYTES));
+    }
+
+    public PlayerColor getColor() {
+        return color;
+    }
+
+    /**
+     * Receive the best move so far after each completed search iteration
+     * @param listener Called on the JavaFX Application Thread
+     */
+    public void setProgressListener(Consumer<SearchResult> listener) {
+        this.progressListener = listener;
+    }
+
+    public boolean isThinking() {
+        return pending != null;
+    }
+
+    /**
+     * Start searching for a move if it is this player's turn and no search is running.
+     * The move is played on the controller once the search ends.
+     * @param controller Game to play in
+     */
+    public void play(GameController controller) {
+        if (pending != null || controller.getGameState().isGameOver()
+                || controller.getCurrentPlayer().getColor() != color) {
+            return;
+        }
+
+        AtomicBoolean token = new AtomicBoolean();
+        pending = token;
+        // The worker only sees its own copy; the live game is touched on the FX thread
+        GameController position = controller.copy();
+        worker.execute(() -> {
+            engine.setProgressListener(result -> Platform.runLater(() -> {
+                if (pending == token) {
+                    progressListener.accept(result);
+                }
+            }));
+            SearchResult result = engine.search(position, token);
+            Platform.runLater(() -> finish(controller, token, result));
+        });
+    }
+
+    /**
+     * Abandon the search in progress; its move will not be played
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.set(true);
+            pending = null;
+        }
+    }
+
+    /**
+     * Cancel any search and stop the worker thread
+     */
+    public void shutdown() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    private void finish(GameController controller, AtomicBoolean token, SearchResult result) {
+        if (pending != token) {
+            // Cancelled while the result was on its way
+            return;
+        }
+        pending = null;
+        progressListener.accept(result);
+        if (result.getBestMove() >= 0) {
+            controller.makeMove(result.getBestMove());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.example.view;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.stage.Stage;
+import org.example.ai.SearchResult;
+import org.example.controller.GameController;
+import org.example.model.Player;
+import org.example.model.PlayerColor;
+
+public class GameView extends Application {
+    private static final long COMPUTER_THINK_MILLIS = 3000;
+
+    private GameController controller;
+    private BoardView boardView;
+    private CanvasBoardView canvasBoardView;
+    private StackPane gameArea;
+    private CheckBox canvasCheckBox;
+    private CheckBox legalMovesCheckBox;
+    private ComputerPlayer computerPlayer;
+    private Label computerLabel;
+    private Label playerNameLabel;
+    private final Label turnLabel;
+    private final Circle redColorCircle;
+    private final Circle blueColorCircle;
+    private Label captureLabel;
+    private boolean gameOverDisplayed = false; // Add a flag to track game over display status
+    private boolean statusUpdateScheduled = false;
+
+    public GameView() {
+        redColorCircle = new Circle(10, Color.RED);
+        blueColorCircle = new Circle(10, Color.BLUE);
+
+        turnLabel = new Label("Turn");
+        turnLabel.setStyle("-fx-font-size: 16;");
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        initializeUI(primaryStage);
+    }
+
+    @Override
+    public void stop() {
+        // Closing the window abandons any computer search
+        if (computerPlayer != null) {
+            computerPlayer.shutdown();
+        }
+    }
+
+    private void initializeUI(Stage stage) {
+        BorderPane root = new BorderPane();
+        root.setPadding(new Insets(20));
+        root.setStyle("-fx-background-color: white;");
+
+        VBox topBox = new VBox(10);
+        topBox.setAlignment(Pos.CENTER);
+
+        Label titleLabel = new Label("HexOust Game");
+        titleLabel.setStyle("-fx-font-size: 24; -fx-font-weight: bold;");
+
+        StackPane statusPane = new StackPane();
+        statusPane.setAlignment(Pos.CENTER);
+
+        HBox statusBox = new HBox(10);
+        statusBox.setAlignment(Pos.CENTER);
+
+        playerNameLabel = new Label();
+        playerNameLabel.setStyle("-fx-font-size: 16;");
+
+        turnLabel.setStyle("-fx-font-size: 16;");
+
+        captureLabel = new Label("Continuous Capture Mode");
+        captureLabel.setStyle("-fx-font-size: 14; -fx-text-fill: red;");
+        captureLabel.setVisible(false);
+
+        statusBox.getChildren().addAll(playerNameLabel, turnLabel);
+        statusPane.getChildren().add(statusBox);
+
+        canvasCheckBox = new CheckBox("Canvas renderer");
+        legalMovesCheckBox = new CheckBox("Show all legal moves");
+        CheckBox computerCheckBox = new CheckBox("Computer plays Blue");
+        Button newGameButton = new Button("New Game");
+        HBox optionsBox = new HBox(20, newGameButton, computerCheckBox, canvasCheckBox, legalMovesCheckBox);
+        optionsBox.setAlignment(Pos.CENTER);
+
+        computerLabel = new Label();
+        computerLabel.setStyle("-fx-font-size: 14;");
+
+        topBox.getChildren().addAll(titleLabel, statusPane, optionsBox, computerLabel);
+        root.setTop(topBox);
+
+        gameArea = new StackPane();
+        gameArea.setPadding(new Insets(10));
+        gameArea.setPrefSize(1200, 1000);
+        root.setCenter(gameArea);
+
+        canvasCheckBox.selectedProperty().addListener((observable, wasSelected, selected) -> {
+            if (selected) {
+                canvasBoardView.redrawAll();
+                gameArea.getChildren().setAll(canvasBoardView);
+            } else {
+                gameArea.getChildren().setAll(boardView);
+            }
+        });
+        legalMovesCheckBox.selectedProperty().addListener((observable, wasSelected, selected) -> {
+            boardView.setShowLegalMoves(selected);
+            canvasBoardView.setShowLegalMoves(selected);
+        });
+        computerCheckBox.selectedProperty().addListener((observable, wasSelected, selected) -> {
+            if (selected) {
+                computerPlayer = new ComputerPlayer(PlayerColor.BLUE, COMPUTER_THINK_MILLIS);
+                computerPlayer.setProgressListener(this::showComputerProgress);
+            } else {
+                computerPlayer.shutdown();
+                computerPlayer = null;
+                computerLabel.setText("");
+            }
+            updateStatus();
+        });
+        newGameButton.setOnAction(event -> startNewGame());
+
+        startNewGame();
+
+        Scene scene = new Scene(root, 1200, 1000);
+        stage.setTitle("HexOust Game");
+        stage.setScene(scene);
+        stage.setResizable(false);
+        stage.show();
+
+        stage.centerOnScreen();
+    }
+
+    /**
+     * Replace the game with a fresh one, abandoning any computer search in progress
+     */
+    private void startNewGame() {
+        if (computerPlayer != null) {
+            computerPlayer.cancel();
+        }
+        computerLabel.setText("");
+
+        controller = new GameController();
+        // Both renderers follow the board, so switching between them needs no rebuild
+        boardView = new BoardView(controller);
+        canvasBoardView = new CanvasBoardView(controller);
+        boardView.setShowLegalMoves(legalMovesCheckBox.isSelected());
+        canvasBoardView.setShowLegalMoves(legalMovesCheckBox.isSelected());
+        gameArea.getChildren().setAll(canvasCheckBox.isSelected() ? canvasBoardView : boardView);
+
+        // Turn, capture mode and game over events all redraw the status line; board
+        // changes also cover capture continuations, which change neither
+        controller.getGameState().addGameOverListener(winner -> scheduleStatusUpdate());
+        controller.getGameState().addPlayerChangeListener(player -> scheduleStatusUpdate());
+        controller.getGameState().addCaptureModeListener((player, captureMode) -> scheduleStatusUpdate());
+        controller.getBoard().addBoardChangeListener(change -> scheduleStatusUpdate());
+
+        gameOverDisplayed = false;
+        turnLabel.setTextFill(Color.BLACK);
+        updateStatus();
+    }
+
+    /**
+     * Redraw the status line once after the events of the current move, however many there are
+     */
+    private void scheduleStatusUpdate() {
+        if (!statusUpdateScheduled) {
+            statusUpdateScheduled = true;
+            Platform.runLater(this::updateStatus);
+        }
+    }
+
+    private void updateStatus() {
+        statusUpdateScheduled = false;
+        if (!gameOverDisplayed) {
+            Player winner = controller.getGameState().getWinner();
+            if (controller.getGameState().isGameOver() && winner != null) {
+                showGameOver(winner);
+            } else {
+                updateStatusLabel(controller.getCurrentPlayer(), controller.getGameState().isCaptureMode());
+            }
+        }
+
+        // Start the computer's move when its turn comes; the board ignores clicks meanwhile
+        if (computerPlayer != null) {
+            computerPlayer.play(controller);
+        }
+        gameArea.setMouseTransparent(computerPlayer != null && computerPlayer.isThinking());
+    }
+
+    private void showComputerProgress(SearchResult result) {
+        computerLabel.setText(String.format("Computer: depth %d, best move %d, score %d, %,d nodes",
+                result.getDepth(), result.getBestMove(), result.getScore(), result.getNodes()));
+    }
+
+    /**
+     * Display game over information
+     * @param winner The winner
+     */
+    private void showGameOver(Player winner) {
+        String winnerText = winner.getColor() == PlayerColor.RED ? "Red Player Wins" : "Blue Player Wins";
+
+        // Clear previous content
+        playerNameLabel.setGraphic(null);
+
+        // Set Game Over and victory text
+        playerNameLabel.setText("Game Over");
+        turnLabel.setText(winnerText);
+
+        // Set victory text color to winner's color
+        playerNameLabel.setTextFill(Color.BLACK);
+        if (winner.getColor() == PlayerColor.RED) {
+            turnLabel.setTextFill(Color.RED);
+        } else {
+            turnLabel.setTextFill(Color.BLUE);
+        }
+
+        // Mark game over as displayed
+        gameOverDisplayed = true;
+
+        // Hide capture mode label
+        captureLabel.setVisible(false);
+    }
+
+    private void updateStatusLabel(Player currentPlayer, boolean captureMode) {
+        if (currentPlayer.getColor() == PlayerColor.RED) {
+            playerNameLabel.setTextFill(Color.RED);
+            playerNameLabel.setGraphic(redColorCircle);
+            playerNameLabel.setText("Red Player");
+        } else {
+            playerNameLabel.setTextFill(Color.BLUE);
+            playerNameLabel.setGraphic(blueColorCircle);
+            playerNameLabel.setText("Blue Player");
+        }
+        turnLabel.setText(captureMode ? "Continuous Capture Mode" : "Turn");
+        captureLabel.setVisible(false);
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package org.example.view;
+
+import org.example.controller.GameController;
+import org.example.controller.LegalMoveList;
+import org.example.controller.MoveAnalysis;
+
+import java.util.Arrays;
+
+/**
+ * Legal moves of the side to move with their NCP/CP kind, generated in one pass when a
+ * view first asks about a position and then served from a per-cell table. The cache is
+ * keyed by the position hash, which covers the side to move and capture mode, so the
+ * moves are generated once per turn and once per capture continuation.
+ */
+final class LegalMoveCache {
+    private final GameController controller;
+    private final LegalMoveList moves;
+    private final MoveAnalysis.MoveType[] types;
+    private boolean valid = false;
+    private long positionHash;
+    private boolean gameOver;
+
+    LegalMoveCache(GameController controller) {
+        this.controller = controller;
+        int cellCount = controller.getBoard().getTopology().getCellCount();
+        this.moves = new LegalMoveList(cellCount);
+        this.types = new MoveAnalysis.MoveType[cellCount];
+    }
+
+    /**
+     * Get the kind of placement the side to move may make at a position
+     * @return NCP, CP or ILLEGAL
+     */
+    MoveAnalysis.MoveType getType(int index) {
+        refresh();
+        return types[index];
+    }
+
+    boolean isLegal(int index) {
+        return getType(index) != MoveAnalysis.MoveType.ILLEGAL;
+    }
+
+    private void refresh() {
+        long hash = controller.getPositionHash();
+        boolean over = controller.getGameState().isGameOver();
+        if (valid && hash == positionHash && over == gameOver) {
+            return;
+        }
+
+        // No legal moves are listed once the game is over
+        controller.generateLegalMoves(controller.getCurrentPlayer(), moves);
+        Arrays.fill(types, MoveAnalysis.MoveType.ILLEGAL);
+        for (int i = 0; i < moves.size(); i++) {
+            types[moves.getMove(i)] = moves.getType(i);
+        }
+        valid = true;
+        positionHash = hash;
+        gameOver = over;
+    }
+}
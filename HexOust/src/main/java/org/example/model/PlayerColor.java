@@ -1,5 +0,0 @@
-package org.example.model;
-
-public enum PlayerColor {
-    RED, BLUE
-}
\ No newline at end of file